@@ -0,0 +1,149 @@
+package com.ecommerce.order.client.product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.order.client.product.dto.ProductApiResponse;
+import com.ecommerce.order.client.product.dto.ProductData;
+import com.ecommerce.order.client.product.dto.ProductListApiResponse;
+import com.ecommerce.order.exception.ProductFetchException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves product data for a whole cart in a single latency window.
+ * Tries the bulk endpoint first and falls back to concurrent per-id lookups.
+ */
+@Slf4j
+@Component
+public class ProductBatchFetcher {
+
+    private final ProductClient productClient;
+    private final AsyncTaskExecutor productFetchExecutor;
+    private final boolean bulkLookupEnabled;
+    private final long fanOutTimeoutMs;
+
+    public ProductBatchFetcher(
+            ProductClient productClient,
+            @Qualifier("productFetchExecutor") AsyncTaskExecutor productFetchExecutor,
+            @Value("${product-client.bulk-lookup.enabled:true}") boolean bulkLookupEnabled,
+            @Value("${product-client.fan-out.timeout-ms:5000}") long fanOutTimeoutMs) {
+        this.productClient = productClient;
+        this.productFetchExecutor = productFetchExecutor;
+        this.bulkLookupEnabled = bulkLookupEnabled;
+        this.fanOutTimeoutMs = fanOutTimeoutMs;
+    }
+
+    /**
+     * Returns the product data keyed by productId, in the order the ids were given.
+     *
+     * @throws ProductFetchException if any product is missing or product-service is unavailable
+     */
+    public Map<Long, ProductData> fetchProducts(Collection<Long> productIds) {
+        Set<Long> distinctIds = new LinkedHashSet<>(productIds);
+        if (distinctIds.isEmpty()) {
+            return Map.of();
+        }
+
+        if (bulkLookupEnabled) {
+            Map<Long, ProductData> products = fetchInBulk(distinctIds);
+            if (products != null) {
+                return products;
+            }
+        }
+
+        return fetchConcurrently(distinctIds);
+    }
+
+    /**
+     * @return the products, or null when the bulk endpoint could not be used
+     */
+    private Map<Long, ProductData> fetchInBulk(Set<Long> productIds) {
+        ProductListApiResponse response;
+        try {
+            response = productClient.getProductsByIds(new ArrayList<>(productIds));
+        } catch (Exception e) {
+            log.warn("Bulk product lookup failed for {} ids, falling back to per-id lookups. Error: {}",
+                    productIds.size(), e.getMessage());
+            return null;
+        }
+
+        if (response == null || response.data() == null) {
+            log.warn("Bulk product lookup returned no data, falling back to per-id lookups.");
+            return null;
+        }
+
+        Map<Long, ProductData> byId = response.data().stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(ProductData::id, Function.identity(), (first, second) -> first));
+
+        Map<Long, ProductData> products = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            ProductData product = byId.get(productId);
+            if (product == null) {
+                throw new ProductFetchException("Product not found or service unavailable: " + productId);
+            }
+            products.put(productId, product);
+        }
+        return products;
+    }
+
+    private Map<Long, ProductData> fetchConcurrently(Set<Long> productIds) {
+        Map<Long, CompletableFuture<ProductData>> futures = new LinkedHashMap<>();
+        for (Long productId : productIds) {
+            futures.put(productId, CompletableFuture.supplyAsync(() -> fetchOne(productId), productFetchExecutor));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(fanOutTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof ProductFetchException productFetchException) {
+                throw productFetchException;
+            }
+            throw new ProductFetchException("Product service unavailable: " + e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            futures.values().forEach(future -> future.cancel(true));
+            log.warn("Timed out after {} ms fetching {} products", fanOutTimeoutMs, productIds.size());
+            throw new ProductFetchException("Product service unavailable: lookup timed out");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            futures.values().forEach(future -> future.cancel(true));
+            throw new ProductFetchException("Product lookup interrupted");
+        }
+
+        Map<Long, ProductData> products = new LinkedHashMap<>();
+        futures.forEach((productId, future) -> products.put(productId, future.join()));
+        return products;
+    }
+
+    private ProductData fetchOne(Long productId) {
+        try {
+            ProductApiResponse response = productClient.getProductById(productId);
+            if (response == null || response.data() == null) {
+                throw new ProductFetchException("Product not found (null response): " + productId);
+            }
+            return response.data();
+        } catch (Exception e) {
+            log.warn("Failed to fetch product data for productId: {}", productId, e);
+            throw new ProductFetchException("Product not found or service unavailable: " + productId);
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package com.ecommerce.order.client.product;
 
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.ecommerce.order.client.product.dto.ProductApiResponse;
+import com.ecommerce.order.client.product.dto.ProductListApiResponse;
 
 //Feign Client will automatically propagate Tracing Headers (traceId)
 @FeignClient(name = "product-service")
@@ -12,4 +16,7 @@ public interface ProductClient {
 
     @GetMapping("/api/v1/products/{productId}")
     ProductApiResponse getProductById(@PathVariable("productId") Long productId);
+
+    @GetMapping("/api/v1/products/batch")
+    ProductListApiResponse getProductsByIds(@RequestParam("ids") List<Long> productIds);
 }
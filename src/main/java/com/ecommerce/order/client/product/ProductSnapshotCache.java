@@ -0,0 +1,136 @@
+package com.ecommerce.order.client.product;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.order.client.product.dto.ProductData;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-through snapshot of product price/seller data in front of product-service.
+ * Concurrent lookups of the same productId share a single in-flight load.
+ * Stock in the snapshot may be stale; callers refresh before rejecting on it, and the
+ * saga remains authoritative for stock.
+ */
+@Slf4j
+@Component
+public class ProductSnapshotCache {
+
+    private static final String CACHE_NAME = "productSnapshots";
+
+    private final ProductBatchFetcher productBatchFetcher;
+    private final boolean enabled;
+    private final AsyncLoadingCache<Long, ProductData> cache;
+
+    public ProductSnapshotCache(
+            ProductBatchFetcher productBatchFetcher,
+            MeterRegistry meterRegistry,
+            @Value("${product-cache.enabled:true}") boolean enabled,
+            @Value("${product-cache.max-size:10000}") long maxSize,
+            @Value("${product-cache.ttl:PT30S}") Duration ttl) {
+        this.productBatchFetcher = productBatchFetcher;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync(new ProductLoader());
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the product data keyed by productId, in the order the ids were given.
+     * Only the ids missing from the cache are fetched, in one bulk lookup.
+     */
+    public Map<Long, ProductData> getProducts(Collection<Long> productIds) {
+        if (!enabled) {
+            return productBatchFetcher.fetchProducts(productIds);
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(productIds);
+        Map<Long, ProductData> cached;
+        try {
+            cached = cache.getAll(distinctIds).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        Map<Long, ProductData> products = new LinkedHashMap<>();
+        for (Long productId : distinctIds) {
+            products.put(productId, cached.get(productId));
+        }
+        return products;
+    }
+
+    /**
+     * Drops the snapshots of the given products and reads them again from product-service,
+     * for a caller that is about to reject a request on the cached data. With the cache
+     * disabled the data came straight from product-service, so nothing is fetched twice.
+     */
+    public Map<Long, ProductData> refresh(Collection<Long> productIds) {
+        if (!enabled) {
+            return Map.of();
+        }
+
+        log.debug("Refreshing product snapshots for productIds: {}", productIds);
+        cache.synchronous().invalidateAll(productIds);
+        Map<Long, ProductData> products = productBatchFetcher.fetchProducts(productIds);
+        cache.synchronous().putAll(products);
+        return products;
+    }
+
+    public void invalidate(Long productId) {
+        log.debug("Invalidating product snapshot for productId: {}", productId);
+        cache.synchronous().invalidate(productId);
+    }
+
+    public void invalidateAll() {
+        cache.synchronous().invalidateAll();
+    }
+
+    /**
+     * Loads on the calling thread, so the fan-out inside ProductBatchFetcher never
+     * waits on a task queued behind itself in the same executor.
+     */
+    private class ProductLoader implements AsyncCacheLoader<Long, ProductData> {
+
+        @Override
+        public CompletableFuture<ProductData> asyncLoad(Long productId, Executor executor) {
+            try {
+                return CompletableFuture.completedFuture(
+                        productBatchFetcher.fetchProducts(Set.of(productId)).get(productId));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        @Override
+        public CompletableFuture<Map<Long, ProductData>> asyncLoadAll(Set<? extends Long> productIds,
+                Executor executor) {
+            try {
+                return CompletableFuture.completedFuture(productBatchFetcher.fetchProducts(Set.copyOf(productIds)));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+    }
+}
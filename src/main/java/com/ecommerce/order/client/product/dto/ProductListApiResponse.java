@@ -0,0 +1,10 @@
+package com.ecommerce.order.client.product.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ProductListApiResponse(
+        List<ProductData> data) {
+}
@@ -0,0 +1,79 @@
+package com.ecommerce.order.config;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Slow repository invocations, reported next to Boot's spring.data.repository.invocations
+ * timer. Only active when repository.slow-invocation.threshold is set (prod profile).
+ */
+@Configuration
+@ConditionalOnProperty(name = "repository.slow-invocation.threshold")
+public class RepositoryMetricsConfig {
+
+    @Bean
+    public SlowRepositoryInvocationListener slowRepositoryInvocationListener(MeterRegistry meterRegistry,
+            @Value("${repository.slow-invocation.threshold}") Duration threshold) {
+        return new SlowRepositoryInvocationListener(meterRegistry, threshold);
+    }
+
+    /**
+     * Same hook Boot uses to attach its metrics listener to every repository factory.
+     */
+    @Bean
+    public static BeanPostProcessor slowRepositoryInvocationListenerPostProcessor(
+            ObjectProvider<SlowRepositoryInvocationListener> slowRepositoryInvocationListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+                    repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory -> repositoryFactory
+                            .addInvocationListener(slowRepositoryInvocationListener.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Slf4j
+    @RequiredArgsConstructor
+    public static class SlowRepositoryInvocationListener implements RepositoryMethodInvocationListener {
+
+        private final MeterRegistry meterRegistry;
+        private final Duration threshold;
+
+        @Override
+        public void afterInvocation(RepositoryMethodInvocation invocation) {
+            long durationNanos = invocation.getDuration(TimeUnit.NANOSECONDS);
+            if (durationNanos < threshold.toNanos()) {
+                return;
+            }
+
+            String repository = invocation.getRepositoryInterface().getSimpleName();
+            String method = invocation.getMethod().getName();
+            Counter.builder("spring.data.repository.slow.invocations")
+                    .description("Repository invocations slower than repository.slow-invocation.threshold")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[Repository] Slow invocation repository={} method={} state={} durationMs={} thresholdMs={}",
+                    repository, method, invocation.getResult().getState(),
+                    TimeUnit.NANOSECONDS.toMillis(durationNanos), threshold.toMillis());
+        }
+    }
+}
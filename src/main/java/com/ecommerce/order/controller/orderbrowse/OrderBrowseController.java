@@ -10,12 +10,15 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.ecommerce.order.controller.orderbrowse.dto.OrderDetailResponse;
 import com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse;
 import com.ecommerce.order.framework.response.GlobalResponse;
+import com.ecommerce.order.framework.response.dto.CursorPaginationMeta;
 import com.ecommerce.order.framework.response.dto.PaginationMeta;
+import com.ecommerce.order.service.orderbrowse.CursorPage;
 import com.ecommerce.order.service.orderbrowse.OrderBrowseService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,6 +39,8 @@ import lombok.RequiredArgsConstructor;
 @PreAuthorize("hasAuthority('ROLE_BUYER_USER')")
 public class OrderBrowseController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final OrderBrowseService orderBrowseService;
 
     @Operation(summary = "Get my order list (Paginated)", description = "Get a paginated list of orders *owned* by the currently authenticated buyer.")
@@ -48,6 +53,21 @@ public class OrderBrowseController {
         return GlobalResponse.success(orderPage.getContent(), meta);
     }
 
+    @Operation(summary = "Scroll my order list (Cursor)", description = "Get orders *owned* by the currently authenticated buyer, newest first, using an opaque cursor instead of page numbers. Stays fast for deep pages.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorOrderSummaryResponseWrapper.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request (invalid cursor)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class)))
+    })
+    @GetMapping("/scroll")
+    public GlobalResponse<List<OrderSummaryResponse>> scrollMyOrders(
+            @Parameter(description = "The nextCursor of the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of items per page (1-100)", example = "10") @RequestParam(defaultValue = "10") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CursorPage<OrderSummaryResponse> orderPage = orderBrowseService.getMyOrders(cursor, pageSize);
+        CursorPaginationMeta meta = new CursorPaginationMeta(orderPage.nextCursor(), orderPage.hasNext(), pageSize);
+        return GlobalResponse.success(orderPage.content(), meta);
+    }
+
     @Operation(summary = "Get my single order details", description = "Get details for a *specific* order *owned* by the currently authenticated buyer.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Order details retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderDetailResponseWrapper.class))),
@@ -71,6 +91,16 @@ public class OrderBrowseController {
         public PaginationMeta meta;
     }
 
+    @Schema(description = "Cursor-paginated response wrapper for Order Summaries")
+    private static class CursorOrderSummaryResponseWrapper {
+        @Schema(example = "0")
+        public int retCode;
+        @Schema(description = "The list of order summaries for the current page")
+        public List<OrderSummaryResponse> data;
+        @Schema(description = "Cursor pagination metadata")
+        public CursorPaginationMeta meta;
+    }
+
     @Schema(description = "Response wrapper for a Single Order Detail")
     private static class OrderDetailResponseWrapper {
         @Schema(example = "0")
@@ -4,6 +4,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -14,6 +15,7 @@ import com.ecommerce.order.framework.response.GlobalResponse;
 import com.ecommerce.order.service.ordercreation.OrderCreationService;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -36,14 +38,17 @@ public class OrderCreationController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "202", description = "Order accepted for asynchronous processing", content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrderDetailResponseWrapper.class))),
             @ApiResponse(responseCode = "400", description = "Bad Request (e.g., validation error, stock unavailable, seller buying own product)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class))),
-            @ApiResponse(responseCode = "401", description = "Authentication failed (Invalid or missing token)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class)))
+            @ApiResponse(responseCode = "401", description = "Authentication failed (Invalid or missing token)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Conflict (Idempotency-Key already used with a different request)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too Many Requests (group-commit queue full, retry after Retry-After seconds)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class)))
     })
     @PostMapping
     @ResponseStatus(HttpStatus.ACCEPTED)
     @PreAuthorize("hasAuthority('ROLE_BUYER_USER')")
     public GlobalResponse<OrderDetailResponse> createOrder(
+            @Parameter(description = "Client-generated key (e.g. a UUID) that makes retries safe: a repeat with the same key and body returns the original order", example = "5f0c6f1e-8f0a-4a53-9a43-5b0f5c3e2a10") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody CreateOrderRequest request) {
-        OrderDetailResponse responseData = orderCreationService.createOrder(request);
+        OrderDetailResponse responseData = orderCreationService.createOrder(request, idempotencyKey);
         return GlobalResponse.success(responseData);
     }
 
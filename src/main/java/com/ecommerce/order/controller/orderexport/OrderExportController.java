@@ -0,0 +1,61 @@
+package com.ecommerce.order.controller.orderexport;
+
+import java.time.Instant;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ecommerce.order.framework.response.GlobalResponse;
+import com.ecommerce.order.service.orderexport.OrderExportFormat;
+import com.ecommerce.order.service.orderexport.OrderExportService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Order (Buyer API)", description = "APIs for buyers to manage their orders. Requires ROLE_BUYER_USER.")
+@RestController
+@RequestMapping("/api/v1/orders/export")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasAuthority('ROLE_BUYER_USER')")
+public class OrderExportController {
+
+    private final OrderExportService orderExportService;
+
+    @Operation(summary = "Export my order history (Streaming)", description = "Stream every order *owned* by the currently authenticated buyer, items included, in one response. NDJSON writes one order per line; CSV writes one item per line. Meant for accounting integrations instead of paging through the order list.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export streamed", content = {
+                    @Content(mediaType = "application/x-ndjson"),
+                    @Content(mediaType = "text/csv") }),
+            @ApiResponse(responseCode = "403", description = "Forbidden (Missing ROLE_BUYER_USER)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportMyOrders(
+            @Parameter(description = "Output format", example = "NDJSON") @RequestParam(defaultValue = "NDJSON") OrderExportFormat format,
+            @Parameter(description = "Only orders created at or after this instant (ISO-8601)", example = "2024-01-01T00:00:00Z") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Only orders created before this instant (ISO-8601); defaults to now", example = "2025-01-01T00:00:00Z") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        StreamingResponseBody body = orderExportService.exportMyOrders(format, from, to);
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("orders." + format.fileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
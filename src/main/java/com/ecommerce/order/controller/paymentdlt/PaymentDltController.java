@@ -0,0 +1,54 @@
+package com.ecommerce.order.controller.paymentdlt;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ecommerce.order.controller.paymentdlt.dto.DltReplayResponse;
+import com.ecommerce.order.framework.response.GlobalResponse;
+import com.ecommerce.order.service.paymentdlt.PaymentDltService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Payment Dead Letters (Admin API)", description = "Operate the payments dead-letter topic. Requires ROLE_SYSTEM_ADMIN.")
+@RestController
+@RequestMapping("/api/v1/admin/payments/dlt")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasAuthority('ROLE_SYSTEM_ADMIN')")
+public class PaymentDltController {
+
+    private final PaymentDltService paymentDltService;
+
+    @Operation(summary = "Replay dead-lettered payment events", description = "Republish the oldest dead-lettered payment events to the payments topic.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Events replayed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DltReplayResponseWrapper.class))),
+            @ApiResponse(responseCode = "403", description = "Forbidden (Missing ROLE_SYSTEM_ADMIN)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Kafka unavailable, nothing or only part was replayed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class)))
+    })
+    @PostMapping("/replay")
+    public GlobalResponse<DltReplayResponse> replayDeadLetters(
+            @Parameter(description = "Maximum number of events to replay", example = "100") @RequestParam(defaultValue = "100") int maxRecords) {
+        return GlobalResponse.success(paymentDltService.replayDeadLetters(maxRecords));
+    }
+
+    @Schema(description = "Response wrapper for a dead-letter replay")
+    private static class DltReplayResponseWrapper {
+        @Schema(example = "0")
+        public int retCode;
+        @Schema(description = "The replay result")
+        public DltReplayResponse data;
+        @Schema(nullable = true)
+        public Object meta;
+    }
+}
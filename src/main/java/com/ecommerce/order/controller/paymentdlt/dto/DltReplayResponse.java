@@ -0,0 +1,9 @@
+package com.ecommerce.order.controller.paymentdlt.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Result of a dead-letter replay")
+public record DltReplayResponse(
+        @Schema(description = "Number of events republished to the payments topic", example = "42") int replayedCount,
+        @Schema(description = "Number of unreadable events skipped; they would only be dead-lettered again", example = "1") int skippedCount) {
+}
@@ -0,0 +1,90 @@
+package com.ecommerce.order.controller.sellerorder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ecommerce.order.controller.sellerorder.dto.SellerOrderResponse;
+import com.ecommerce.order.controller.sellerorder.dto.SellerRevenueResponse;
+import com.ecommerce.order.framework.response.GlobalResponse;
+import com.ecommerce.order.framework.response.dto.CursorPaginationMeta;
+import com.ecommerce.order.service.orderbrowse.CursorPage;
+import com.ecommerce.order.service.sellerorder.RevenuePeriod;
+import com.ecommerce.order.service.sellerorder.SellerOrderService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@Tag(name = "Order (Seller API)", description = "APIs for sellers to follow orders of their products. Requires ROLE_SELLER_ADMIN.")
+@RestController
+@RequestMapping("/api/v1/seller/orders")
+@RequiredArgsConstructor
+@SecurityRequirement(name = "bearerAuth")
+@PreAuthorize("hasAuthority('ROLE_SELLER_ADMIN')")
+public class SellerOrderController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SellerOrderService sellerOrderService;
+
+    @Operation(summary = "Scroll orders of my products (Cursor)", description = "Get orders containing products of the currently authenticated seller, newest first. Only the seller's own items are included.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Orders retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CursorSellerOrderResponseWrapper.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request (invalid cursor)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class)))
+    })
+    @GetMapping
+    public GlobalResponse<List<SellerOrderResponse>> scrollMyOrders(
+            @Parameter(description = "The nextCursor of the previous page; omit for the first page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of orders per page (1-100)", example = "10") @RequestParam(defaultValue = "10") int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CursorPage<SellerOrderResponse> orderPage = sellerOrderService.getMyOrders(cursor, pageSize);
+        CursorPaginationMeta meta = new CursorPaginationMeta(orderPage.nextCursor(), orderPage.hasNext(), pageSize);
+        return GlobalResponse.success(orderPage.content(), meta);
+    }
+
+    @Operation(summary = "Get my revenue per period", description = "Revenue of succeeded orders containing the seller's products, per day, week or month (UTC). Periods without sales are omitted.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revenue retrieved successfully", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SellerRevenueResponseWrapper.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request (invalid range)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = GlobalResponse.class)))
+    })
+    @GetMapping("/revenue")
+    public GlobalResponse<List<SellerRevenueResponse>> getMyRevenue(
+            @Parameter(description = "First day, inclusive", example = "2024-01-01") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day, inclusive", example = "2024-01-31") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "Aggregation period", example = "DAY") @RequestParam(defaultValue = "DAY") RevenuePeriod period) {
+        return GlobalResponse.success(sellerOrderService.getMyRevenue(from, to, period));
+    }
+
+    @Schema(description = "Cursor-paginated response wrapper for Seller Orders")
+    private static class CursorSellerOrderResponseWrapper {
+        @Schema(example = "0")
+        public int retCode;
+        @Schema(description = "The list of seller orders for the current page")
+        public List<SellerOrderResponse> data;
+        @Schema(description = "Cursor pagination metadata")
+        public CursorPaginationMeta meta;
+    }
+
+    @Schema(description = "Response wrapper for Seller Revenue")
+    private static class SellerRevenueResponseWrapper {
+        @Schema(example = "0")
+        public int retCode;
+        @Schema(description = "Revenue per period, oldest first")
+        public List<SellerRevenueResponse> data;
+        @Schema(nullable = true)
+        public Object meta;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.order.controller.sellerorder.dto;
+
+import com.ecommerce.order.repository.db.SellerOrderLine;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "One of the seller's items in an order")
+public record SellerOrderItemResponse(
+        @Schema(description = "Product ID", example = "101") Long productId,
+
+        @Schema(description = "Quantity purchased", example = "2") Integer quantity,
+
+        @Schema(description = "Price per unit in cents at time of purchase", example = "1999") Long unitPrice) {
+    public SellerOrderItemResponse(SellerOrderLine line) {
+        this(line.productId(), line.quantity(), line.unitPrice());
+    }
+}
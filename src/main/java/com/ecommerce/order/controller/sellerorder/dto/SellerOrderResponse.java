@@ -0,0 +1,19 @@
+package com.ecommerce.order.controller.sellerorder.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "An order containing the seller's products; only the seller's own items are shown")
+public record SellerOrderResponse(
+        @Schema(description = "Order ID", example = "12345") Long orderId,
+
+        @Schema(description = "Saga Status", example = "SUCCEEDED") String status,
+
+        @Schema(description = "Creation timestamp") Instant createdAt,
+
+        @Schema(description = "Total of the seller's items in cents", example = "3998") Long sellerAmount,
+
+        @Schema(description = "The seller's items in this order") List<SellerOrderItemResponse> items) {
+}
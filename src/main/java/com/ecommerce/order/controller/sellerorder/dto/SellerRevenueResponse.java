@@ -0,0 +1,16 @@
+package com.ecommerce.order.controller.sellerorder.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Revenue of succeeded orders in one period")
+public record SellerRevenueResponse(
+        @Schema(description = "First day of the period (UTC)", example = "2024-01-01") LocalDate periodStart,
+
+        @Schema(description = "Number of succeeded orders containing the seller's products", example = "42") long orderCount,
+
+        @Schema(description = "Units sold", example = "57") long itemQuantity,
+
+        @Schema(description = "Revenue in cents", example = "113943") long revenueAmount) {
+}
@@ -0,0 +1,7 @@
+package com.ecommerce.order.exception;
+
+public class DeadLetterTopicUnavailableException extends RuntimeException {
+    public DeadLetterTopicUnavailableException(String message) {
+        super(message);
+    }
+}
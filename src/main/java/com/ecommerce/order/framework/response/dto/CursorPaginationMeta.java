@@ -0,0 +1,12 @@
+package com.ecommerce.order.framework.response.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Cursor pagination metadata")
+public record CursorPaginationMeta(
+        @Schema(description = "Opaque cursor of the next page (null on the last page)", example = "MTcwMDAwMDAwMC4wOjEyMzQ1") String nextCursor,
+
+        @Schema(description = "Whether another page exists", example = "true") boolean hasNext,
+
+        @Schema(description = "Number of items per page", example = "10") int pageSize) {
+}
@@ -2,6 +2,7 @@ package com.ecommerce.order.framework.web;
 
 import java.util.stream.Collectors;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -10,9 +11,14 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import com.ecommerce.order.exception.DeadLetterTopicUnavailableException;
+import com.ecommerce.order.exception.IdempotencyKeyConflictException;
 import com.ecommerce.order.exception.InsufficientStockException;
+import com.ecommerce.order.exception.InvalidCursorException;
 import com.ecommerce.order.exception.OrderAccessDeniedException;
+import com.ecommerce.order.exception.OrderCommitTimeoutException;
 import com.ecommerce.order.exception.OrderNotFoundException;
+import com.ecommerce.order.exception.OrderQueueFullException;
 import com.ecommerce.order.exception.ProductFetchException;
 import com.ecommerce.order.exception.SaaSValidationException;
 import com.ecommerce.order.framework.response.GlobalResponse;
@@ -43,7 +49,8 @@ public class GlobalExceptionHandler {
     /**
      * Handles 400 Bad Request (Business Logic exceptions).
      */
-    @ExceptionHandler({ InsufficientStockException.class, SaaSValidationException.class, ProductFetchException.class })
+    @ExceptionHandler({ InsufficientStockException.class, SaaSValidationException.class, ProductFetchException.class,
+            InvalidCursorException.class })
     public ResponseEntity<GlobalResponse<Object>> handleBadRequestBusinessException(RuntimeException ex) {
         log.warn("Bad Request (Business Logic): {}", ex.getMessage());
         GlobalResponse<Object> response = GlobalResponse.error(ex.getMessage());
@@ -82,6 +89,50 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Handles 409 Conflict (Idempotency-Key reused with a different request).
+     */
+    @ExceptionHandler(IdempotencyKeyConflictException.class)
+    public ResponseEntity<GlobalResponse<Object>> handleIdempotencyKeyConflictException(
+            IdempotencyKeyConflictException ex) {
+        log.warn("Conflict: {}", ex.getMessage());
+        GlobalResponse<Object> response = GlobalResponse.error(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles 429 Too Many Requests (order ingestion queue full).
+     */
+    @ExceptionHandler(OrderQueueFullException.class)
+    public ResponseEntity<GlobalResponse<Object>> handleOrderQueueFullException(OrderQueueFullException ex) {
+        log.warn("Too Many Requests: {}", ex.getMessage());
+        GlobalResponse<Object> response = GlobalResponse.error(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+
+    /**
+     * Handles 503 Service Unavailable (Kafka unreachable during a dead-letter replay).
+     */
+    @ExceptionHandler(DeadLetterTopicUnavailableException.class)
+    public ResponseEntity<GlobalResponse<Object>> handleDeadLetterTopicUnavailableException(
+            DeadLetterTopicUnavailableException ex) {
+        log.warn("Service Unavailable: {}", ex.getMessage());
+        GlobalResponse<Object> response = GlobalResponse.error(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handles 503 Service Unavailable (order not committed within the group-commit wait).
+     */
+    @ExceptionHandler(OrderCommitTimeoutException.class)
+    public ResponseEntity<GlobalResponse<Object>> handleOrderCommitTimeoutException(OrderCommitTimeoutException ex) {
+        log.warn("Service Unavailable: {}", ex.getMessage());
+        GlobalResponse<Object> response = GlobalResponse.error(ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handles 500 Internal Server Error (all other uncaught exceptions).
      */
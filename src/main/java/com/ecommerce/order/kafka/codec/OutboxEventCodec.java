@@ -0,0 +1,105 @@
+package com.ecommerce.order.kafka.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.util.JsonUtil;
+
+/**
+ * Turns outbox events into Kafka records and back. The encoding is chosen per topic;
+ * the reader recognises both, so consumers can be rolled out before producers switch.
+ */
+@Component
+public class OutboxEventCodec {
+
+    public static final String HEADER_ENCODING = "event-encoding";
+    public static final String HEADER_EVENT_ID = "event-id";
+    public static final String HEADER_EVENT_TYPE = "event-type";
+    public static final String HEADER_AGGREGATE_TYPE = "event-aggregate-type";
+    public static final String HEADER_METADATA = "event-metadata";
+
+    static final String ENVELOPE_V1 = "envelope-v1";
+
+    private final JsonUtil jsonUtil;
+
+    // other services parse the entity JSON until they ship the envelope reader
+    private final List<String> envelopeTopics;
+
+    public OutboxEventCodec(JsonUtil jsonUtil,
+            @Value("${kafka.encoding.envelope-topics:}") List<String> envelopeTopics) {
+        this.jsonUtil = jsonUtil;
+        this.envelopeTopics = envelopeTopics;
+    }
+
+    public OutboxEventEncoding encodingFor(String topic) {
+        return envelopeTopics.contains(topic) ? OutboxEventEncoding.ENVELOPE : OutboxEventEncoding.ENTITY_JSON;
+    }
+
+    /**
+     * Builds the record for an event, on the topic named by its aggregate type and keyed by its aggregate id.
+     */
+    public ProducerRecord<String, String> encode(OutboxEvent event) {
+        String topic = event.getAggregateType();
+        String key = event.getAggregateId();
+
+        if (encodingFor(topic) == OutboxEventEncoding.ENTITY_JSON) {
+            return new ProducerRecord<>(topic, key, jsonUtil.toJson(event));
+        }
+
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, event.getPayload());
+        addHeader(record.headers(), HEADER_ENCODING, ENVELOPE_V1);
+        addHeader(record.headers(), HEADER_EVENT_ID, event.getEventId());
+        addHeader(record.headers(), HEADER_EVENT_TYPE, event.getEventType());
+        addHeader(record.headers(), HEADER_AGGREGATE_TYPE, event.getAggregateType());
+        addHeader(record.headers(), HEADER_METADATA, event.getMetadata());
+        return record;
+    }
+
+    /**
+     * Reads a record in either encoding. Only the fields that travel are set; id,
+     * status and the timestamps belong to the producer's outbox row.
+     */
+    public OutboxEvent decode(ConsumerRecord<String, String> record) {
+        if (!ENVELOPE_V1.equals(header(record.headers(), HEADER_ENCODING))) {
+            return jsonUtil.fromJson(record.value(), OutboxEvent.class);
+        }
+
+        String eventId = header(record.headers(), HEADER_EVENT_ID);
+        String eventType = header(record.headers(), HEADER_EVENT_TYPE);
+        if (eventId == null) {
+            // the inbox deduplicates on it; without one every redelivery would be processed again
+            throw new IllegalArgumentException("Envelope record without event id, key: " + record.key());
+        }
+        if (eventType == null || record.value() == null) {
+            throw new IllegalArgumentException("Envelope record without event type or payload, eventId: " + eventId);
+        }
+
+        return OutboxEvent.builder()
+                .eventId(eventId)
+                .eventType(eventType)
+                .aggregateType(header(record.headers(), HEADER_AGGREGATE_TYPE))
+                .aggregateId(record.key())
+                .payload(record.value())
+                .metadata(header(record.headers(), HEADER_METADATA))
+                .build();
+    }
+
+    private static void addHeader(Headers headers, String name, String value) {
+        if (value != null) {
+            headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String header(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.order.kafka.codec;
+
+/**
+ * Wire formats for outbox events on Kafka.
+ */
+public enum OutboxEventEncoding {
+
+    /**
+     * The whole OutboxEvent entity as JSON. payload and metadata are JSON strings
+     * embedded in it, so they travel escaped. What every consumer understood so far.
+     */
+    ENTITY_JSON,
+
+    /**
+     * The payload JSON as the record value, unescaped; event id, type, aggregate and
+     * metadata go in headers. Marked with the event-encoding header.
+     */
+    ENVELOPE
+}
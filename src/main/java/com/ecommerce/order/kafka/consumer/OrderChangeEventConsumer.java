@@ -0,0 +1,42 @@
+package com.ecommerce.order.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.order.kafka.codec.OutboxEventCodec;
+import com.ecommerce.order.kafka.dto.EventMetadata;
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.service.orderbrowse.OrderReadCache;
+import com.ecommerce.order.util.JsonUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts the order read cache on every instance when an order event is published.
+ * The writing instance already evicted after commit; this covers the other replicas.
+ * Same stable per-instance group id as ProductChangeEventConsumer.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderChangeEventConsumer {
+
+    private final OrderReadCache orderReadCache;
+    private final OutboxEventCodec outboxEventCodec;
+    private final JsonUtil jsonUtil;
+
+    @KafkaListener(topics = "orders",
+            groupId = "order-service-order-cache-${kafka.consumer.instance-id:${HOSTNAME:local}}",
+            properties = "auto.offset.reset=latest")
+    public void handleOrderEvent(ConsumerRecord<String, String> record) {
+        try {
+            OutboxEvent event = outboxEventCodec.decode(record);
+            EventMetadata metadata = jsonUtil.fromJson(event.getMetadata(), EventMetadata.class);
+            orderReadCache.evictOrder(Long.valueOf(event.getAggregateId()), Long.valueOf(metadata.userId()));
+        } catch (Exception e) {
+            log.warn("[Consumer] Unreadable order event, order cache left to expire. Error: {}", e.getMessage());
+        }
+    }
+}
@@ -1,13 +1,16 @@
 package com.ecommerce.order.kafka.consumer;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import com.ecommerce.order.kafka.codec.OutboxEventCodec;
+import com.ecommerce.order.kafka.producer.PaymentRetryPublisher;
 import com.ecommerce.order.model.db.entity.OutboxEvent;
 import com.ecommerce.order.service.order.OrderSagaService;
-import com.ecommerce.order.util.JsonUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,19 +21,52 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentEventConsumer {
 
     private final OrderSagaService orderSagaService;
-    private final JsonUtil jsonUtil;
+    private final PaymentRetryPublisher paymentRetryPublisher;
+    private final OutboxEventCodec outboxEventCodec;
+
+    /**
+     * Receives a poll's worth of payment events and applies them in one transaction.
+     * If the batch fails, each event is retried in its own transaction; events that
+     * still fail go to the payments.retry.n tiers, unreadable ones straight to payments.DLT.
+     * Records may be in either {@link com.ecommerce.order.kafka.codec.OutboxEventEncoding}.
+     */
+    @KafkaListener(topics = PaymentRetryPublisher.TOPIC_PAYMENTS, groupId = "order-service-group", batch = "true",
+            concurrency = "${kafka.consumer.payments.concurrency:1}",
+            properties = "max.poll.records=${kafka.consumer.payments.max-batch:100}")
+    public void handlePaymentEvents(List<ConsumerRecord<String, String>> records) {
+        log.info("[Consumer] Received {} events from 'payments' topic.", records.size());
+
+        List<ConsumerRecord<String, String>> parsedRecords = new ArrayList<>();
+        List<OutboxEvent> incomingEvents = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                incomingEvents.add(outboxEventCodec.decode(record));
+                parsedRecords.add(record);
+            } catch (Exception e) {
+                log.error("[Consumer] Failed to parse event from 'payments' topic. Key: {}. Error: {}",
+                        record.key(), e.getMessage(), e);
+                paymentRetryPublisher.publishUnreadableToDeadLetter(record, 0, e);
+            }
+        }
 
-    @KafkaListener(topics = "payments", groupId = "order-service-group")
-    public void handlePaymentEvent(String message, @Header(KafkaHeaders.RECEIVED_KEY) String key) {
-        log.info("[Consumer] Received event from 'payments' topic. Key: {}", key);
+        try {
+            orderSagaService.processPaymentResults(incomingEvents);
+        } catch (Exception e) {
+            log.warn("[Consumer] Batch of {} payment events failed, processing one by one. Error: {}",
+                    incomingEvents.size(), e.getMessage());
+            for (int i = 0; i < incomingEvents.size(); i++) {
+                handlePaymentEvent(parsedRecords.get(i), incomingEvents.get(i));
+            }
+        }
+    }
 
+    private void handlePaymentEvent(ConsumerRecord<String, String> record, OutboxEvent incomingEvent) {
         try {
-            OutboxEvent incomingEvent = jsonUtil.fromJson(message, OutboxEvent.class);
             orderSagaService.processPaymentResult(incomingEvent);
         } catch (Exception e) {
-            // should add DLQ mechanism
             log.error("[Consumer] Failed to process event from 'payments' topic. Key: {}. Error: {}",
-                    key, e.getMessage(), e);
+                    record.key(), e.getMessage(), e);
+            paymentRetryPublisher.retryOrDeadLetter(record, 1, e);
         }
     }
 }
@@ -0,0 +1,132 @@
+package com.ecommerce.order.kafka.consumer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.AcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.order.kafka.codec.OutboxEventCodec;
+import com.ecommerce.order.kafka.producer.PaymentRetryPublisher;
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.service.order.OrderSagaService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Re-processes failed payment events once their due time has passed. A record that
+ * is not due yet is nacked, which pauses its consumer. Each retry tier therefore
+ * gets its own listener container: a record waiting out a long backoff pauses
+ * only its tier, while shorter tiers and the main payments topic keep flowing.
+ */
+@Slf4j
+@Component
+public class PaymentRetryConsumer implements SmartLifecycle {
+
+    private static final String GROUP_ID = "order-service-group";
+
+    private final OrderSagaService orderSagaService;
+    private final PaymentRetryPublisher paymentRetryPublisher;
+    private final OutboxEventCodec outboxEventCodec;
+    private final ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory;
+    private final List<ConcurrentMessageListenerContainer<Object, Object>> containers = new ArrayList<>();
+
+    // must stay below max.poll.interval.ms
+    @Value("${kafka.consumer.payments.retry.max-pause-ms:5000}")
+    private long maxPauseMs;
+
+    public PaymentRetryConsumer(OrderSagaService orderSagaService, PaymentRetryPublisher paymentRetryPublisher,
+            OutboxEventCodec outboxEventCodec,
+            @Qualifier("manualAckKafkaListenerContainerFactory")
+            ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory) {
+        this.orderSagaService = orderSagaService;
+        this.paymentRetryPublisher = paymentRetryPublisher;
+        this.outboxEventCodec = outboxEventCodec;
+        this.containerFactory = containerFactory;
+    }
+
+    @Override
+    public void start() {
+        for (int attempt = 1; attempt <= paymentRetryPublisher.getMaxAttempts(); attempt++) {
+            String topic = PaymentRetryPublisher.retryTopic(attempt);
+            ConcurrentMessageListenerContainer<Object, Object> container = containerFactory.createContainer(topic);
+            container.getContainerProperties().setGroupId(GROUP_ID);
+            container.getContainerProperties().setClientId("payment-retry-" + attempt);
+            container.setBeanName("paymentRetry" + attempt);
+            container.setupMessageListener((AcknowledgingMessageListener<Object, Object>) this::onRecord);
+            container.start();
+            containers.add(container);
+        }
+        log.info("[Retry] Listening on {} retry tiers.", containers.size());
+    }
+
+    @Override
+    public void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        containers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return !containers.isEmpty();
+    }
+
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onRecord(ConsumerRecord<Object, Object> record, Acknowledgment acknowledgment) {
+        handleRetry((ConsumerRecord<String, String>) (ConsumerRecord<?, ?>) record, acknowledgment);
+    }
+
+    void handleRetry(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        long waitMs = headerAsLong(record, PaymentRetryPublisher.HEADER_NOT_BEFORE, 0L) - System.currentTimeMillis();
+        if (waitMs > 0) {
+            acknowledgment.nack(Duration.ofMillis(Math.min(waitMs, maxPauseMs)));
+            return;
+        }
+
+        int attempt = (int) headerAsLong(record, PaymentRetryPublisher.HEADER_ATTEMPT, 1L);
+        OutboxEvent incomingEvent;
+        try {
+            incomingEvent = outboxEventCodec.decode(record);
+        } catch (Exception e) {
+            paymentRetryPublisher.publishUnreadableToDeadLetter(record, attempt, e);
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        try {
+            orderSagaService.processPaymentResult(incomingEvent);
+            log.info("[Retry] Processed eventId: {} on attempt {}.", incomingEvent.getEventId(), attempt);
+        } catch (Exception e) {
+            paymentRetryPublisher.retryOrDeadLetter(record, attempt + 1, e);
+        }
+        acknowledgment.acknowledge();
+    }
+
+    private static long headerAsLong(ConsumerRecord<String, String> record, String name, long defaultValue) {
+        Header header = record.headers().lastHeader(name);
+        if (header == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecommerce.order.kafka.consumer;
+
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.order.client.product.ProductSnapshotCache;
+import com.ecommerce.order.kafka.dto.ProductChangeEvent;
+import com.ecommerce.order.util.JsonUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts cached product snapshots when product-service publishes a change.
+ * Every instance uses its own consumer group so that each local cache sees every event.
+ * The group id is stable per instance (the container hostname), so a restart resumes
+ * the same group instead of leaving an abandoned one behind on the brokers; set
+ * kafka.consumer.instance-id when several instances share a host.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductChangeEventConsumer {
+
+    private final ProductSnapshotCache productSnapshotCache;
+    private final JsonUtil jsonUtil;
+
+    @KafkaListener(topics = "${product-cache.invalidation.topic:products}",
+            groupId = "order-service-product-cache-${kafka.consumer.instance-id:${HOSTNAME:local}}",
+            properties = "auto.offset.reset=latest")
+    public void handleProductChangeEvent(String message,
+            @Header(name = KafkaHeaders.RECEIVED_KEY, required = false) String key) {
+        try {
+            String productId = key;
+            if (productId == null) {
+                productId = jsonUtil.fromJson(message, ProductChangeEvent.class).aggregateId();
+            }
+            productSnapshotCache.invalidate(Long.valueOf(productId));
+        } catch (Exception e) {
+            // an unreadable change event must not leave stale prices behind
+            log.warn("[Consumer] Unreadable product change event. Key: {}. Clearing product cache. Error: {}",
+                    key, e.getMessage());
+            productSnapshotCache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ecommerce.order.kafka.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * The part of a product-service change event the product cache needs. Everything
+ * else in product-service's envelope is ignored, so it can evolve on its own.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ProductChangeEvent(
+        String aggregateId) {
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.order.kafka.producer;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.repository.db.OutboxEventRepository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Claims outbox events for this instance, so that N poller replicas split the
+ * backlog instead of all publishing the same page. A claim is a time-limited
+ * lease: if this instance dies mid-batch, the events become claimable again
+ * once the lease expires.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventClaimer {
+
+    private static final String STATUS_PENDING = "PENDING";
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Getter
+    @Value("${kafka.poller.instance-id:${HOSTNAME:order-service}-${random.uuid}}")
+    private String instanceId;
+
+    @Value("${kafka.poller.lease-ms:30000}")
+    private long leaseMillis;
+
+    @Transactional
+    public List<OutboxEvent> claimBatch(int batchSize) {
+        List<OutboxEvent> events = outboxEventRepository.findClaimableForUpdate(STATUS_PENDING, batchSize);
+
+        if (!events.isEmpty()) {
+            outboxEventRepository.leaseByIdIn(
+                    events.stream().map(OutboxEvent::getId).toList(),
+                    instanceId,
+                    leaseMillis);
+        }
+
+        return events;
+    }
+}
@@ -1,19 +1,29 @@
 package com.ecommerce.order.kafka.producer;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.apache.kafka.clients.producer.ProducerRecord;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.ecommerce.order.kafka.codec.OutboxEventCodec;
 import com.ecommerce.order.model.db.entity.OutboxEvent;
 import com.ecommerce.order.repository.db.OutboxEventRepository;
-import com.ecommerce.order.util.JsonUtil;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,49 +33,122 @@ import lombok.extern.slf4j.Slf4j;
 public class OutboxEventPoller {
 
     private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventClaimer outboxEventClaimer;
     private final KafkaTemplate<String, String> kafkaTemplate;
-    private final JsonUtil jsonUtil;
+    private final OutboxEventCodec outboxEventCodec;
 
-    private static final Pageable BATCH_PAGEABLE = PageRequest.of(0, 100);
-    private static final String STATUS_PENDING = "PENDING";
+    static final String MODE_SIGNAL = "signal";
     private static final String STATUS_SENT = "SENT";
     // private static final String STATUS_FAILED = "FAILED";
 
+    // fixed-delay (default) or signal, see OutboxSignalRelay
+    @Value("${kafka.poller.mode:fixed-delay}")
+    private String mode;
+
+    @Getter
+    @Value("${kafka.poller.batch-size:100}")
+    private int batchSize;
+
+    @Value("${kafka.poller.max-in-flight:100}")
+    private int maxInFlight;
+
+    // must stay well below kafka.poller.lease-ms, or another instance may re-claim the batch
+    @Value("${kafka.poller.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
     @Scheduled(fixedDelayString = "${kafka.poller.delay.ms:1000}")
     public void pollOutboxEvents() {
+        if (MODE_SIGNAL.equals(mode)) {
+            return;
+        }
+        publishPendingEvents();
+    }
+
+    /**
+     * Claims and publishes one batch. Events that could not be published are released
+     * right away, so the next poll retries them instead of waiting out the lease.
+     *
+     * @return number of events published; below the number claimed when sends failed
+     */
+    public int publishPendingEvents() {
 
-        List<OutboxEvent> events = outboxEventRepository.findByStatusOrderByUpdatedAtAsc(
-                STATUS_PENDING,
-                BATCH_PAGEABLE);
+        List<OutboxEvent> events = outboxEventClaimer.claimBatch(batchSize);
 
         if (events.isEmpty()) {
-            return;
+            return 0;
         }
 
-        log.info("[Outbox] Found {} pending events to publish...", events.size());
-        List<OutboxEvent> sentEvents = new ArrayList<>();
+        log.info("[Outbox] Claimed {} pending events to publish...", events.size());
+        List<Long> sentEventIds = publish(events);
+
+        if (!sentEventIds.isEmpty()) {
+            outboxEventRepository.updateStatusByIdIn(STATUS_SENT, sentEventIds);
+            log.info("[Outbox] Successfully published {} events.", sentEventIds.size());
+        }
+
+        Set<Long> sent = new HashSet<>(sentEventIds);
+        List<Long> failedEventIds = events.stream()
+                .map(OutboxEvent::getId)
+                .filter(id -> !sent.contains(id))
+                .toList();
+        if (!failedEventIds.isEmpty()) {
+            outboxEventRepository.releaseLeaseByIdIn(failedEventIds, outboxEventClaimer.getInstanceId());
+            log.warn("[Outbox] Released {} unpublished events for the next poll.", failedEventIds.size());
+        }
+        return sentEventIds.size();
+    }
+
+    /**
+     * Sends the whole batch without waiting per record, then collects the acks.
+     * At most maxInFlight sends are outstanding at any time.
+     *
+     * @return ids of the events acknowledged by the broker
+     */
+    private List<Long> publish(List<OutboxEvent> events) {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        Map<OutboxEvent, CompletableFuture<SendResult<String, String>>> pendingSends = new LinkedHashMap<>();
 
         for (OutboxEvent event : events) {
             try {
-                String topic = event.getAggregateType();
-                String key = event.getAggregateId();
-                String value = jsonUtil.toJson(event);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, value);
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
 
-                kafkaTemplate.send(record).get();
+            try {
+                ProducerRecord<String, String> record = outboxEventCodec.encode(event);
 
-                event.setStatus(STATUS_SENT);
-                sentEvents.add(event);
+                CompletableFuture<SendResult<String, String>> future = kafkaTemplate.send(record);
+                future.whenComplete((result, ex) -> inFlight.release());
+                pendingSends.put(event, future);
 
             } catch (Exception e) {
+                inFlight.release();
                 // wait for next poll
                 log.error("[Outbox] Failed to send eventId: {}. Error: {}", event.getEventId(), e.getMessage());
             }
         }
 
-        if (!sentEvents.isEmpty()) {
-            outboxEventRepository.saveAll(sentEvents);
-            log.info("[Outbox] Successfully published {} events.", sentEvents.size());
+        List<Long> sentEventIds = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+
+        for (Map.Entry<OutboxEvent, CompletableFuture<SendResult<String, String>>> entry : pendingSends.entrySet()) {
+            OutboxEvent event = entry.getKey();
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentEventIds.add(event.getId());
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException | TimeoutException e) {
+                // wait for next poll
+                log.error("[Outbox] Failed to send eventId: {}. Error: {}", event.getEventId(),
+                        e instanceof ExecutionException ? e.getCause().getMessage() : "ack timed out");
+            }
         }
+
+        return sentEventIds;
     }
 }
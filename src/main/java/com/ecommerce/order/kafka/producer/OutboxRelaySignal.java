@@ -0,0 +1,70 @@
+package com.ecommerce.order.kafka.producer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-process wake-up for the outbox relay. Writers of outbox events call
+ * {@link #signalAfterCommit()} so the relay publishes as soon as the row is visible,
+ * instead of waiting for the next poll. Repeated signals coalesce into one wake-up.
+ */
+@Component
+public class OutboxRelaySignal {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition signalled = lock.newCondition();
+    private boolean pending;
+
+    /**
+     * Signals once the current transaction commits, or immediately when there is none.
+     * Nothing is signalled on rollback.
+     */
+    public void signalAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            signal();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                signal();
+            }
+        });
+    }
+
+    public void signal() {
+        lock.lock();
+        try {
+            pending = true;
+            signalled.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return true if a signal arrived, false if the timeout elapsed first
+     */
+    public boolean await(long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (!pending) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = signalled.awaitNanos(remainingNanos);
+            }
+            pending = false;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
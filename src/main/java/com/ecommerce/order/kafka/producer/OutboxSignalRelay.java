@@ -0,0 +1,87 @@
+package com.ecommerce.order.kafka.producer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Signal-driven relay, enabled with kafka.poller.mode=signal. Publishes right after
+ * an outbox insert commits on this instance; while idle it falls back to polling
+ * with a backoff that doubles up to max-backoff-ms, which also picks up events
+ * written by other instances.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "kafka.poller.mode", havingValue = OutboxEventPoller.MODE_SIGNAL)
+public class OutboxSignalRelay implements SmartLifecycle {
+
+    private final OutboxEventPoller outboxEventPoller;
+    private final OutboxRelaySignal outboxRelaySignal;
+
+    @Value("${kafka.poller.signal.min-backoff-ms:10}")
+    private long minBackoffMs;
+
+    @Value("${kafka.poller.signal.max-backoff-ms:1000}")
+    private long maxBackoffMs;
+
+    private volatile boolean running;
+    private Thread relayThread;
+
+    @Override
+    public void start() {
+        running = true;
+        relayThread = new Thread(this::relayLoop, "outbox-relay");
+        relayThread.setDaemon(true);
+        relayThread.start();
+        log.info("[Outbox] Signal relay started (backoff {}..{} ms).", minBackoffMs, maxBackoffMs);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (relayThread != null) {
+            relayThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relayLoop() {
+        long backoffMs = minBackoffMs;
+
+        while (running) {
+            int published;
+            try {
+                published = outboxEventPoller.publishPendingEvents();
+            } catch (Exception e) {
+                log.error("[Outbox] Relay iteration failed. Error: {}", e.getMessage());
+                published = 0;
+            }
+
+            if (published >= outboxEventPoller.getBatchSize()) {
+                // backlog left, keep draining
+                backoffMs = minBackoffMs;
+                continue;
+            }
+            // failed sends are released at once, so back off rather than spin on a broker outage
+            backoffMs = published > 0 ? minBackoffMs : Math.min(backoffMs * 2, maxBackoffMs);
+
+            try {
+                if (outboxRelaySignal.await(backoffMs)) {
+                    backoffMs = minBackoffMs;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
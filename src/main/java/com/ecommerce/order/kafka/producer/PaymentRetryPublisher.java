@@ -0,0 +1,159 @@
+package com.ecommerce.order.kafka.producer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves failed payment events off the main topic: retry number n goes to its own
+ * payments.retry.n topic with an exponentially growing due time, and to payments.DLT
+ * once the attempts are used up. Every record in a tier waits the same delay, so a
+ * tier's records fall due in offset order and a long wait never holds up a shorter one.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRetryPublisher {
+
+    public static final String TOPIC_PAYMENTS = "payments";
+    public static final String TOPIC_PAYMENTS_RETRY = "payments.retry";
+    public static final String TOPIC_PAYMENTS_DLT = "payments.DLT";
+    public static final String HEADER_ATTEMPT = "retry-attempt";
+    public static final String HEADER_NOT_BEFORE = "retry-not-before";
+    public static final String HEADER_EXCEPTION = "retry-exception";
+    public static final String HEADER_DLT_REASON = "dlt-reason";
+    public static final String DLT_REASON_UNREADABLE = "unreadable";
+    public static final String DLT_REASON_RETRIES_EXHAUSTED = "retries-exhausted";
+    private static final Set<String> RETRY_HEADERS =
+            Set.of(HEADER_ATTEMPT, HEADER_NOT_BEFORE, HEADER_EXCEPTION, HEADER_DLT_REASON);
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${kafka.consumer.payments.retry.max-attempts:4}")
+    private int maxAttempts;
+
+    @Value("${kafka.consumer.payments.retry.initial-interval-ms:1000}")
+    private long initialIntervalMs;
+
+    @Value("${kafka.consumer.payments.retry.multiplier:2.0}")
+    private double multiplier;
+
+    @Value("${kafka.consumer.payments.retry.max-interval-ms:60000}")
+    private long maxIntervalMs;
+
+    @Value("${kafka.poller.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public static String retryTopic(int attempt) {
+        return TOPIC_PAYMENTS_RETRY + "." + attempt;
+    }
+
+    /**
+     * The delay of retry tier {@code attempt} (1-based).
+     */
+    public long delayMs(int attempt) {
+        return (long) Math.min(initialIntervalMs * Math.pow(multiplier, attempt - 1), maxIntervalMs);
+    }
+
+    /**
+     * Schedules retry number {@code attempt} (1-based), or dead-letters the event
+     * once all attempts are used up.
+     */
+    public void retryOrDeadLetter(ConsumerRecord<String, String> source, int attempt, Exception cause) {
+        if (attempt > maxAttempts) {
+            publishToDeadLetter(source, attempt - 1, cause, DLT_REASON_RETRIES_EXHAUSTED);
+            return;
+        }
+
+        long delayMs = delayMs(attempt);
+        ProducerRecord<String, String> record = copyOf(source, retryTopic(attempt));
+        addHeader(record, HEADER_ATTEMPT, Integer.toString(attempt));
+        addHeader(record, HEADER_NOT_BEFORE, Long.toString(System.currentTimeMillis() + delayMs));
+        addHeader(record, HEADER_EXCEPTION, describe(cause));
+
+        send(record);
+        Counter.builder("payments.retry.attempts")
+                .description("Payment events scheduled for a retry")
+                .tag("attempt", Integer.toString(attempt))
+                .register(meterRegistry)
+                .increment();
+        log.warn("[Retry] Scheduled retry {} of {} in {} ms. Key: {}", attempt, maxAttempts, delayMs, source.key());
+    }
+
+    /**
+     * Dead-letters a record that could not be parsed. It is flagged so that a replay
+     * skips it: republishing would only bring it straight back.
+     */
+    public void publishUnreadableToDeadLetter(ConsumerRecord<String, String> source, int attempts, Exception cause) {
+        publishToDeadLetter(source, attempts, cause, DLT_REASON_UNREADABLE);
+    }
+
+    private void publishToDeadLetter(ConsumerRecord<String, String> source, int attempts, Exception cause,
+            String reason) {
+        ProducerRecord<String, String> record = copyOf(source, TOPIC_PAYMENTS_DLT);
+        addHeader(record, HEADER_DLT_REASON, reason);
+        addHeader(record, HEADER_ATTEMPT, Integer.toString(attempts));
+        addHeader(record, HEADER_EXCEPTION, describe(cause));
+
+        send(record);
+        Counter.builder("payments.dlt.records")
+                .description("Payment events published to the dead-letter topic")
+                .register(meterRegistry)
+                .increment();
+        log.error("[Retry] Dead-lettered payment event after {} retries. Key: {}. Error: {}",
+                attempts, source.key(), cause.getMessage());
+    }
+
+    private void send(ProducerRecord<String, String> record) {
+        try {
+            kafkaTemplate.send(record).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while publishing to " + record.topic(), e);
+        } catch (Exception e) {
+            // the listener fails and the container redelivers, the inbox absorbs the duplicate
+            throw new RuntimeException("Failed to publish to " + record.topic(), e);
+        }
+    }
+
+    /**
+     * Same key, value and event headers (an envelope record is unreadable without them);
+     * the retry and dead-letter headers are left for the caller to set.
+     */
+    public static ProducerRecord<String, String> copyOf(ConsumerRecord<?, ?> source, String topic) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic,
+                source.key() == null ? null : source.key().toString(),
+                source.value() == null ? null : source.value().toString());
+        for (Header header : source.headers()) {
+            if (!RETRY_HEADERS.contains(header.key())) {
+                record.headers().add(header);
+            }
+        }
+        return record;
+    }
+
+    private static void addHeader(ProducerRecord<String, String> record, String name, String value) {
+        record.headers().add(name, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String describe(Exception cause) {
+        return cause.getClass().getName() + ": " + cause.getMessage();
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecommerce.order.model.db.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Insert-only: a row is never updated, so save() always persists (a plain INSERT,
+ * batched with the order rows) instead of merging, which would select first.
+ * A concurrent request with the same key blocks on the primary key until the
+ * first commits, then fails with a duplicate key error.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "order_idempotency_key")
+public class OrderIdempotencyKey implements Persistable<OrderIdempotencyKeyId> {
+
+    @EmbeddedId
+    private OrderIdempotencyKeyId id;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "response", columnDefinition = "json", nullable = false)
+    private String response;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+    private Instant createdAt;
+
+    public OrderIdempotencyKey(OrderIdempotencyKeyId id, String requestHash, Long orderId, String response) {
+        this.id = id;
+        this.requestHash = requestHash;
+        this.orderId = orderId;
+        this.response = response;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.order.model.db.entity;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Read-only mapping of the rollup; rows are only written through
+ * SellerDailyRevenueRepository#addRevenue.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "seller_daily_revenue")
+public class SellerDailyRevenue {
+
+    @EmbeddedId
+    private SellerDailyRevenueId id;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "item_quantity", nullable = false)
+    private Long itemQuantity;
+
+    @Column(name = "revenue_amount", nullable = false)
+    private Long revenueAmount;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false)
+    private Instant updatedAt;
+}
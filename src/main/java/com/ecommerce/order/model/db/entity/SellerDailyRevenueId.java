@@ -0,0 +1,25 @@
+package com.ecommerce.order.model.db.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+@Embeddable
+public class SellerDailyRevenueId implements Serializable {
+
+    @Column(name = "seller_admin_id", nullable = false)
+    private Long sellerAdminId;
+
+    @Column(name = "revenue_date", nullable = false)
+    private LocalDate revenueDate;
+}
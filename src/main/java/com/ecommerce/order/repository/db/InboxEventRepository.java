@@ -0,0 +1,28 @@
+package com.ecommerce.order.repository.db;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.order.model.db.entity.InboxEvent;
+
+@Repository
+public interface InboxEventRepository extends JpaRepository<InboxEvent, String> {
+
+    /**
+     * @return 1 if the event was recorded, 0 if it had already been received
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO inbox_event (event_id, event_type) VALUES (:eventId, :eventType)",
+            nativeQuery = true)
+    int insertIgnore(String eventId, String eventType);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM inbox_event WHERE received_at < :horizon LIMIT :limit", nativeQuery = true)
+    int deleteReceivedBefore(Instant horizon, int limit);
+}
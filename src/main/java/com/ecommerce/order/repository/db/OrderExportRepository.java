@@ -0,0 +1,70 @@
+package com.ecommerce.order.repository.db;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Plain JDBC access for exports, where hydrating entities (and their lazy items)
+ * would cost memory proportional to the buyer's history.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderExportRepository {
+
+    // timestamps are stored in UTC, same as Hibernate writes them
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private static final String SELECT_ORDERS_WITH_ITEMS = """
+            SELECT o.id, o.status, o.total_amount, o.created_at,
+                   i.product_id, i.seller_admin_id, i.quantity, i.unit_price
+            FROM orders o
+            STRAIGHT_JOIN order_items i ON i.order_id = o.id
+            WHERE o.buyer_user_id = ? AND o.created_at >= ? AND o.created_at < ?
+            ORDER BY o.created_at DESC, o.id DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Streams a buyer's orders joined with their items in one query, newest order
+     * first with all lines of an order adjacent.
+     * STRAIGHT_JOIN keeps orders as the driving table, read backwards from
+     * idx_buyer_created_summary, so the ORDER BY needs no filesort; sorting on an
+     * order_items column as well would bring the filesort back. Items come in
+     * idx_order_id order, i.e. by item id.
+     * MySQL Connector/J only streams row by row for a forward-only, read-only statement
+     * with fetch size Integer.MIN_VALUE; otherwise it buffers the whole result set.
+     * The connection stays checked out until every row has been consumed.
+     */
+    public void streamOrdersWithItems(Long buyerUserId, Instant from, Instant to, Consumer<OrderExportRow> consumer) {
+        // the driver mutates the Calendar it is given, so every export gets its own
+        Calendar utc = Calendar.getInstance(UTC);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_ORDERS_WITH_ITEMS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(Integer.MIN_VALUE);
+            statement.setLong(1, buyerUserId);
+            statement.setTimestamp(2, Timestamp.from(from), utc);
+            statement.setTimestamp(3, Timestamp.from(to), utc);
+            return statement;
+        }, (ResultSet rs) -> consumer.accept(new OrderExportRow(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getLong(3),
+                rs.getTimestamp(4, utc).toInstant(),
+                rs.getLong(5),
+                rs.getLong(6),
+                rs.getInt(7),
+                rs.getLong(8))));
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.order.repository.db;
+
+import java.time.Instant;
+
+/**
+ * One item line of an exported order, with the order columns repeated.
+ */
+public record OrderExportRow(
+        long orderId,
+        String status,
+        long totalAmount,
+        Instant createdAt,
+        long productId,
+        long sellerAdminId,
+        int quantity,
+        long unitPrice) {
+}
@@ -0,0 +1,22 @@
+package com.ecommerce.order.repository.db;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.order.model.db.entity.OrderIdempotencyKey;
+import com.ecommerce.order.model.db.entity.OrderIdempotencyKeyId;
+
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, OrderIdempotencyKeyId> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM order_idempotency_key WHERE created_at < :horizon LIMIT :limit",
+            nativeQuery = true)
+    int deleteCreatedBefore(Instant horizon, int limit);
+}
@@ -1,10 +1,43 @@
 package com.ecommerce.order.repository.db;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.ecommerce.order.model.db.entity.OrderItem;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
+
+    /**
+     * Keyset pagination: ids of the seller's orders, newest first. Index-only on idx_seller_order_lines.
+     */
+    @Query("SELECT DISTINCT i.orderId FROM OrderItem i WHERE i.sellerAdminId = :sellerAdminId"
+            + " ORDER BY i.orderId DESC")
+    List<Long> findFirstOrderIdPageBySellerAdminId(Long sellerAdminId, Pageable pageable);
+
+    /**
+     * Keyset pagination: ids of the seller's orders before afterOrderId. Index-only on idx_seller_order_lines.
+     */
+    @Query("SELECT DISTINCT i.orderId FROM OrderItem i WHERE i.sellerAdminId = :sellerAdminId"
+            + " AND i.orderId < :afterOrderId ORDER BY i.orderId DESC")
+    List<Long> findOrderIdPageBySellerAdminIdAfter(Long sellerAdminId, Long afterOrderId, Pageable pageable);
+
+    /**
+     * The seller's own lines of the given orders; other sellers' lines stay hidden. Index-only on idx_seller_order_lines.
+     */
+    @Query("SELECT new com.ecommerce.order.repository.db.SellerOrderLine("
+            + "i.orderId, i.productId, i.quantity, i.unitPrice)"
+            + " FROM OrderItem i WHERE i.sellerAdminId = :sellerAdminId AND i.orderId IN :orderIds"
+            + " ORDER BY i.orderId DESC, i.productId")
+    List<SellerOrderLine> findSellerLinesByOrderIdIn(Long sellerAdminId, Collection<Long> orderIds);
+
+    @Query("SELECT new com.ecommerce.order.repository.db.SellerOrderTotal("
+            + "i.orderId, i.sellerAdminId, SUM(i.quantity), SUM(i.quantity * i.unitPrice))"
+            + " FROM OrderItem i WHERE i.orderId IN :orderIds GROUP BY i.orderId, i.sellerAdminId")
+    List<SellerOrderTotal> sumBySellerForOrderIdIn(Collection<Long> orderIds);
 }
@@ -1,5 +1,8 @@
 package com.ecommerce.order.repository.db;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -8,13 +11,53 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse;
 import com.ecommerce.order.model.db.entity.Order;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
-    Page<Order> findByBuyerUserId(Long buyerUserId, Pageable pageable);
+    /**
+     * Read-only summary list, selected straight into the response record without
+     * hydrating Order entities. Served from idx_buyer_created_summary.
+     */
+    @Query(value = "SELECT new com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse("
+            + "o.id, o.status, o.totalAmount, o.createdAt)"
+            + " FROM Order o WHERE o.buyerUserId = :buyerUserId",
+            countQuery = "SELECT COUNT(o) FROM Order o WHERE o.buyerUserId = :buyerUserId")
+    Page<OrderSummaryResponse> findSummariesByBuyerUserId(Long buyerUserId, Pageable pageable);
 
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id = :orderId AND o.buyerUserId = :buyerUserId")
-    Optional<Order> findByIdAndBuyerUserIdWithItems(Long orderId, Long buyerUserId);
+    /**
+     * Keyset pagination: the first page of a buyer's order summaries, newest first, without a count query.
+     */
+    @Query("SELECT new com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse("
+            + "o.id, o.status, o.totalAmount, o.createdAt)"
+            + " FROM Order o WHERE o.buyerUserId = :buyerUserId"
+            + " ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryResponse> findFirstSummaryPageByBuyerUserId(Long buyerUserId, Pageable pageable);
+
+    /**
+     * Keyset pagination: the order summaries after (createdAt, id).
+     */
+    @Query("SELECT new com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse("
+            + "o.id, o.status, o.totalAmount, o.createdAt)"
+            + " FROM Order o WHERE o.buyerUserId = :buyerUserId"
+            + " AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id))"
+            + " ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderSummaryResponse> findSummaryPageByBuyerUserIdAfter(Long buyerUserId, Instant createdAt, Long id,
+            Pageable pageable);
+
+    /**
+     * Summaries by primary key, for lists whose keyset comes from another table.
+     */
+    @Query("SELECT new com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse("
+            + "o.id, o.status, o.totalAmount, o.createdAt)"
+            + " FROM Order o WHERE o.id IN :orderIds")
+    List<OrderSummaryResponse> findSummariesByIdIn(Collection<Long> orderIds);
+
+    /**
+     * Not filtered by buyer: existence and ownership are both decided from this one row.
+     */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items WHERE o.id = :orderId")
+    Optional<Order> findByIdWithItems(Long orderId);
 }
@@ -1,15 +1,80 @@
 package com.ecommerce.order.repository.db;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.ecommerce.order.model.db.entity.OutboxEvent;
 
 @Repository
 public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
 
-    List<OutboxEvent> findByStatusOrderByUpdatedAtAsc(String status, Pageable pageable);
+    /**
+     * Locks up to {@code limit} events that are not leased by a live poller.
+     * Rows locked by another instance are skipped instead of waited on.
+     */
+    @Query(value = "SELECT * FROM outbox_event"
+            + " WHERE status = :status"
+            + " AND (lease_expires_at IS NULL OR lease_expires_at < CURRENT_TIMESTAMP(3))"
+            + " ORDER BY updated_at ASC LIMIT :limit"
+            + " FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findClaimableForUpdate(String status, int limit);
+
+    /**
+     * Leases the events to {@code owner}, using the database clock so that clock skew
+     * between instances does not matter. updated_at is kept so the poll order is stable.
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_event"
+            + " SET lease_owner = :owner,"
+            + " lease_expires_at = TIMESTAMPADD(MICROSECOND, :leaseMillis * 1000, CURRENT_TIMESTAMP(3)),"
+            + " updated_at = updated_at"
+            + " WHERE id IN (:ids)", nativeQuery = true)
+    int leaseByIdIn(Collection<Long> ids, String owner, long leaseMillis);
+
+    /**
+     * Marks a whole published batch in one statement and releases its lease.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.leaseOwner = NULL, e.leaseExpiresAt = NULL"
+            + " WHERE e.id IN :ids")
+    int updateStatusByIdIn(String status, Collection<Long> ids);
+
+    /**
+     * Gives up this instance's lease on events it failed to publish. A lease that has
+     * meanwhile expired and been taken by another instance is left alone.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.leaseOwner = NULL, e.leaseExpiresAt = NULL"
+            + " WHERE e.id IN :ids AND e.leaseOwner = :owner")
+    int releaseLeaseByIdIn(Collection<Long> ids, String owner);
+
+    /**
+     * Locks a chunk of expired events for the retention job. Every replica runs the
+     * job on the same cron; rows another replica is already moving are skipped.
+     */
+    @Query(value = "SELECT id FROM outbox_event"
+            + " WHERE status = :status AND updated_at < :horizon"
+            + " ORDER BY updated_at ASC LIMIT :limit"
+            + " FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> findIdsByStatusAndUpdatedAtBeforeForUpdate(String status, Instant horizon, int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO outbox_event_archive"
+            + " (id, event_id, aggregate_type, aggregate_id, event_type, payload, metadata, status, created_at, updated_at)"
+            + " SELECT id, event_id, aggregate_type, aggregate_id, event_type, payload, metadata, status, created_at, updated_at"
+            + " FROM outbox_event WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchiveByIdIn(Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,37 @@
+package com.ecommerce.order.repository.db;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.ecommerce.order.model.db.entity.SellerDailyRevenue;
+import com.ecommerce.order.model.db.entity.SellerDailyRevenueId;
+
+@Repository
+public interface SellerDailyRevenueRepository extends JpaRepository<SellerDailyRevenue, SellerDailyRevenueId> {
+
+    /**
+     * Adds the deltas to the seller's day, creating the row on first use.
+     * Negative deltas take back an order that left SUCCEEDED.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO seller_daily_revenue"
+            + " (seller_admin_id, revenue_date, order_count, item_quantity, revenue_amount)"
+            + " VALUES (:sellerAdminId, :revenueDate, :orderCount, :itemQuantity, :revenueAmount) AS new"
+            + " ON DUPLICATE KEY UPDATE order_count = seller_daily_revenue.order_count + new.order_count,"
+            + " item_quantity = seller_daily_revenue.item_quantity + new.item_quantity,"
+            + " revenue_amount = seller_daily_revenue.revenue_amount + new.revenue_amount",
+            nativeQuery = true)
+    int addRevenue(Long sellerAdminId, LocalDate revenueDate, long orderCount, long itemQuantity, long revenueAmount);
+
+    /**
+     * Primary-key range scan over the seller's days.
+     */
+    @Query("SELECT r FROM SellerDailyRevenue r WHERE r.id.sellerAdminId = :sellerAdminId"
+            + " AND r.id.revenueDate BETWEEN :from AND :to ORDER BY r.id.revenueDate")
+    List<SellerDailyRevenue> findBySellerAdminIdAndRevenueDateBetween(Long sellerAdminId, LocalDate from, LocalDate to);
+}
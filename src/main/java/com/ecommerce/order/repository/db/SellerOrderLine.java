@@ -0,0 +1,11 @@
+package com.ecommerce.order.repository.db;
+
+/**
+ * One of a seller's item lines, read from idx_seller_order_lines alone.
+ */
+public record SellerOrderLine(
+        Long orderId,
+        Long productId,
+        Integer quantity,
+        Long unitPrice) {
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.order.repository.db;
+
+/**
+ * A seller's share of one order.
+ */
+public record SellerOrderTotal(
+        Long orderId,
+        Long sellerAdminId,
+        Long itemQuantity,
+        Long revenueAmount) {
+}
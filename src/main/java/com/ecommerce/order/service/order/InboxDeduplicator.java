@@ -0,0 +1,122 @@
+package com.ecommerce.order.service.order;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.repository.db.InboxEventRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotent inbox for incoming saga events. Recently seen event ids are kept in
+ * a bounded in-memory cache, so most redeliveries are rejected without touching
+ * the database; everything else costs a single INSERT IGNORE into inbox_event.
+ * Rows older than the retention are purged; it must outlive the payments topic
+ * retention, or a replay from the earliest offset gets past the inbox.
+ */
+@Slf4j
+@Component
+public class InboxDeduplicator {
+
+    private final InboxEventRepository inboxEventRepository;
+    private final Cache<String, Boolean> recentEventIds;
+    private final Counter cachedDuplicates;
+    private final Counter storedDuplicates;
+    private final Duration retention;
+    private final int purgeChunkSize;
+
+    public InboxDeduplicator(InboxEventRepository inboxEventRepository, MeterRegistry meterRegistry,
+            @Value("${inbox.cache.max-size:100000}") long maxSize,
+            @Value("${inbox.retention:P14D}") Duration retention,
+            @Value("${inbox.purge.chunk-size:1000}") int purgeChunkSize) {
+        this.inboxEventRepository = inboxEventRepository;
+        this.recentEventIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+        this.retention = retention;
+        this.purgeChunkSize = purgeChunkSize;
+        this.cachedDuplicates = duplicateCounter(meterRegistry, "cache");
+        this.storedDuplicates = duplicateCounter(meterRegistry, "db");
+    }
+
+    /**
+     * Records the event in the inbox. Must run inside the transaction that applies the
+     * event, so that a rollback also forgets it.
+     *
+     * @return true the first time an event id is seen, false for a duplicate
+     */
+    public boolean markReceived(OutboxEvent incomingEvent) {
+        String eventId = incomingEvent.getEventId();
+        if (eventId == null) {
+            log.warn("[Inbox] Event without eventId cannot be deduplicated, type: {}", incomingEvent.getEventType());
+            return true;
+        }
+
+        if (recentEventIds.getIfPresent(eventId) != null) {
+            cachedDuplicates.increment();
+            log.info("[Inbox] Skipping duplicate eventId: {} (cache)", eventId);
+            return false;
+        }
+
+        if (inboxEventRepository.insertIgnore(eventId, incomingEvent.getEventType()) == 0) {
+            // the row may be this transaction's own uncommitted insert, which a rollback takes back
+            rememberAfterCommit(eventId);
+            storedDuplicates.increment();
+            log.info("[Inbox] Skipping duplicate eventId: {} (db)", eventId);
+            return false;
+        }
+
+        rememberAfterCommit(eventId);
+        return true;
+    }
+
+    /**
+     * Inbox rows older than the retention are deleted in chunks.
+     */
+    @Scheduled(cron = "${inbox.purge.cron:0 50 * * * *}")
+    public void purgeExpired() {
+        Instant horizon = Instant.now().minus(retention);
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = inboxEventRepository.deleteReceivedBefore(horizon, purgeChunkSize);
+            purged += deleted;
+        } while (deleted == purgeChunkSize);
+
+        if (purged > 0) {
+            log.info("[Inbox] Purged {} inbox events received before {}", purged, horizon);
+        }
+    }
+
+    private void rememberAfterCommit(String eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recentEventIds.put(eventId, Boolean.TRUE);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentEventIds.put(eventId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static Counter duplicateCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("saga.inbox.duplicates")
+                .description("Redelivered saga events rejected by the inbox")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+}
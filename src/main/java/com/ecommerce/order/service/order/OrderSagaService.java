@@ -1,8 +1,17 @@
 package com.ecommerce.order.service.order;
 
+import java.util.List;
+
 import com.ecommerce.order.model.db.entity.OutboxEvent;
 
 public interface OrderSagaService {
 
     void processPaymentResult(OutboxEvent incomingEvent);
+
+    /**
+     * Applies a poll's worth of payment events in one transaction. Events of
+     * unknown type are skipped and logged; an event for an unknown order fails
+     * the whole batch with {@link com.ecommerce.order.exception.OrderNotFoundException}.
+     */
+    void processPaymentResults(List<OutboxEvent> incomingEvents);
 }
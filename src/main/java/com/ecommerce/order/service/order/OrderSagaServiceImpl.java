@@ -1,7 +1,15 @@
 package com.ecommerce.order.service.order;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,10 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 import com.ecommerce.order.exception.OrderNotFoundException;
 import com.ecommerce.order.kafka.dto.EventMetadata;
 import com.ecommerce.order.kafka.dto.SagaEventPayload;
+import com.ecommerce.order.kafka.producer.OutboxRelaySignal;
 import com.ecommerce.order.model.db.entity.Order;
 import com.ecommerce.order.model.db.entity.OutboxEvent;
 import com.ecommerce.order.repository.db.OrderRepository;
 import com.ecommerce.order.repository.db.OutboxEventRepository;
+import com.ecommerce.order.service.orderbrowse.OrderReadCache;
+import com.ecommerce.order.service.sellerorder.SellerRevenueRollup;
 import com.ecommerce.order.util.JsonUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -34,16 +45,20 @@ public class OrderSagaServiceImpl implements OrderSagaService {
 
     private final OrderRepository orderRepository;
     private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelaySignal outboxRelaySignal;
+    private final InboxDeduplicator inboxDeduplicator;
+    private final OrderReadCache orderReadCache;
+    private final SellerRevenueRollup sellerRevenueRollup;
     private final JsonUtil jsonUtil;
 
     @Override
     @Transactional
     public void processPaymentResult(OutboxEvent incomingEvent) {
-        String eventType = incomingEvent.getEventType();
+        if (!inboxDeduplicator.markReceived(incomingEvent)) {
+            return;
+        }
 
         SagaEventPayload payload = jsonUtil.fromJson(incomingEvent.getPayload(), SagaEventPayload.class);
-        EventMetadata metadata = jsonUtil.fromJson(incomingEvent.getMetadata(), EventMetadata.class);
-
         Long orderId = payload.orderId();
 
         Order order = orderRepository.findById(orderId)
@@ -52,6 +67,76 @@ public class OrderSagaServiceImpl implements OrderSagaService {
                     return new OrderNotFoundException(orderId);
                 });
 
+        Map<Order, Integer> revenueSigns = new HashMap<>();
+        OutboxEvent outgoingEvent = applyPaymentResult(incomingEvent, order, revenueSigns);
+        if (outgoingEvent == null) {
+            return;
+        }
+
+        orderRepository.save(order);
+        outboxEventRepository.save(outgoingEvent);
+        sellerRevenueRollup.apply(revenueSigns);
+        outboxRelaySignal.signalAfterCommit();
+    }
+
+    @Override
+    @Transactional
+    public void processPaymentResults(List<OutboxEvent> events) {
+        // a poll can hold the same event twice; the inbox must only ever see it once per transaction
+        Set<String> batchEventIds = new HashSet<>();
+        List<OutboxEvent> incomingEvents = events.stream()
+                .filter(event -> event.getEventId() == null || batchEventIds.add(event.getEventId()))
+                .filter(inboxDeduplicator::markReceived)
+                .toList();
+        if (incomingEvents.isEmpty()) {
+            return;
+        }
+
+        Map<OutboxEvent, Long> orderIdsByEvent = incomingEvents.stream()
+                .collect(Collectors.toMap(Function.identity(),
+                        event -> jsonUtil.fromJson(event.getPayload(), SagaEventPayload.class).orderId()));
+        Set<Long> orderIds = Set.copyOf(orderIdsByEvent.values());
+
+        Map<Long, Order> orders = orderRepository.findAllById(orderIds).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+        List<OutboxEvent> outgoingEvents = new ArrayList<>();
+        Map<Order, Integer> revenueSigns = new HashMap<>();
+        for (OutboxEvent incomingEvent : incomingEvents) {
+            Long orderId = orderIdsByEvent.get(incomingEvent);
+            Order order = orders.get(orderId);
+            if (order == null) {
+                // roll back the whole batch, inbox rows included; the consumer then retries event by
+                // event, so this one takes the same retry/DLT path as it would have arriving alone
+                log.warn("OrderNotFoundException for orderId: {}, eventId: {}", orderId, incomingEvent.getEventId());
+                throw new OrderNotFoundException(orderId);
+            }
+
+            OutboxEvent outgoingEvent = applyPaymentResult(incomingEvent, order, revenueSigns);
+            if (outgoingEvent != null) {
+                outgoingEvents.add(outgoingEvent);
+            }
+        }
+
+        // status changes are flushed by dirty checking, batched with the outbox inserts
+        outboxEventRepository.saveAll(outgoingEvents);
+        sellerRevenueRollup.apply(revenueSigns);
+        if (!outgoingEvents.isEmpty()) {
+            outboxRelaySignal.signalAfterCommit();
+        }
+
+        log.info("[Saga] Processed batch of {} payment events, {} orders updated.",
+                incomingEvents.size(), outgoingEvents.size());
+    }
+
+    /**
+     * Moves the order to its new status and records whether it entered (+1) or left (-1)
+     * SUCCEEDED in revenueSigns, for the seller revenue rollup.
+     *
+     * @return the outbox event to publish, or null for an unknown event type
+     */
+    private OutboxEvent applyPaymentResult(OutboxEvent incomingEvent, Order order, Map<Order, Integer> revenueSigns) {
+        String eventType = incomingEvent.getEventType();
         String newOrderStatus;
         String newEventType;
 
@@ -63,12 +148,19 @@ public class OrderSagaServiceImpl implements OrderSagaService {
             newEventType = EVENT_TYPE_ORDER_FAILED;
         } else {
             log.warn("Ignoring unknown event type: {}", eventType);
-            return;
+            return null;
+        }
+
+        int revenueSign = (STATUS_SUCCEEDED.equals(newOrderStatus) ? 1 : 0)
+                - (STATUS_SUCCEEDED.equals(order.getStatus()) ? 1 : 0);
+        if (revenueSign != 0) {
+            revenueSigns.merge(order, revenueSign, (a, b) -> a + b == 0 ? null : a + b);
         }
 
         order.setStatus(newOrderStatus);
-        orderRepository.save(order);
+        orderReadCache.evictOrderAfterCommit(order.getId(), order.getBuyerUserId());
 
+        EventMetadata metadata = jsonUtil.fromJson(incomingEvent.getMetadata(), EventMetadata.class);
         EventMetadata outgoingMetadata = EventMetadata.builder()
                 .traceId(metadata.traceId())
                 .causationId(incomingEvent.getEventId())
@@ -86,9 +178,9 @@ public class OrderSagaServiceImpl implements OrderSagaService {
                 .status(STATUS_PENDING)
                 .build();
 
-        outboxEventRepository.save(outgoingEvent);
-
         log.info("[Saga] Processed event '{}'. Updated orderId={} to status={}. Created outbox event '{}'.",
-                eventType, orderId, newOrderStatus, newEventType);
+                eventType, order.getId(), newOrderStatus, newEventType);
+
+        return outgoingEvent;
     }
 }
@@ -0,0 +1,15 @@
+package com.ecommerce.order.service.orderbrowse;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated list; nextCursor is null on the last page.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
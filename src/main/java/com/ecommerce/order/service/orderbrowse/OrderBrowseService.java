@@ -10,5 +10,13 @@ public interface OrderBrowseService {
 
     Page<OrderSummaryResponse> getMyOrders(Pageable pageable);
 
+    /**
+     * Keyset-paginated variant of {@link #getMyOrders(Pageable)}: no count query and
+     * constant cost for deep pages.
+     *
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     */
+    CursorPage<OrderSummaryResponse> getMyOrders(String cursor, int size);
+
     OrderDetailResponse getMyOrderById(Long orderId);
 }
@@ -1,6 +1,9 @@
 package com.ecommerce.order.service.orderbrowse;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -25,6 +28,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderBrowseServiceImpl implements OrderBrowseService {
 
     private final OrderRepository orderRepository;
+    private final OrderReadCache orderReadCache;
 
     @Override
     public Page<OrderSummaryResponse> getMyOrders(Pageable pageable) {
@@ -33,9 +37,42 @@ public class OrderBrowseServiceImpl implements OrderBrowseService {
         log.info("Fetching order list for buyerUserId: {} (Page: {}, Size: {})",
                 buyerUserId, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<Order> orderPage = orderRepository.findByBuyerUserId(buyerUserId, pageable);
+        if (pageable.getPageNumber() == 0) {
+            String variant = "page:" + pageable.getPageSize() + ":" + pageable.getSort();
+            return orderReadCache.getFirstPage(buyerUserId, variant,
+                    () -> orderRepository.findSummariesByBuyerUserId(buyerUserId, pageable));
+        }
+
+        return orderRepository.findSummariesByBuyerUserId(buyerUserId, pageable);
+    }
+
+    @Override
+    public CursorPage<OrderSummaryResponse> getMyOrders(String cursor, int size) {
+        Long buyerUserId = getAuthenticatedBuyerId();
+
+        log.info("Scrolling order list for buyerUserId: {} (Cursor: {}, Size: {})",
+                buyerUserId, cursor, size);
+
+        if (cursor == null || cursor.isBlank()) {
+            return orderReadCache.getFirstPage(buyerUserId, "scroll:" + size,
+                    () -> toCursorPage(orderRepository.findFirstSummaryPageByBuyerUserId(
+                            buyerUserId, PageRequest.ofSize(size + 1)), size));
+        }
+
+        // one extra row tells whether another page exists
+        OrderCursor after = OrderCursor.decode(cursor);
+        return toCursorPage(orderRepository.findSummaryPageByBuyerUserIdAfter(
+                buyerUserId, after.createdAt(), after.id(), PageRequest.ofSize(size + 1)), size);
+    }
 
-        return orderPage.map(OrderSummaryResponse::new);
+    private CursorPage<OrderSummaryResponse> toCursorPage(List<OrderSummaryResponse> orders, int size) {
+        if (orders.size() <= size) {
+            return new CursorPage<>(orders, null);
+        }
+
+        List<OrderSummaryResponse> page = orders.subList(0, size);
+        OrderSummaryResponse last = page.get(size - 1);
+        return new CursorPage<>(page, new OrderCursor(last.createdAt(), last.orderId()).encode());
     }
 
     @Override
@@ -45,11 +82,14 @@ public class OrderBrowseServiceImpl implements OrderBrowseService {
         log.info("Fetching order detail for buyerUserId: {}, orderId: {}",
                 buyerUserId, orderId);
 
-        Order order = orderRepository.findByIdAndBuyerUserIdWithItems(orderId, buyerUserId)
-                .orElseGet(() -> getOrderAndVerifyOwnership(orderId, buyerUserId));
-
-        return new OrderDetailResponse(order);
+        OrderDetailResponse detail = orderReadCache.getDetail(orderId);
+        if (detail == null) {
+            detail = new OrderDetailResponse(findOrderWithItems(orderId));
+            orderReadCache.putDetail(detail);
+        }
 
+        verifyOwnership(orderId, detail.buyerUserId(), buyerUserId);
+        return detail;
     }
 
     private Long getAuthenticatedBuyerId() {
@@ -58,19 +98,29 @@ public class OrderBrowseServiceImpl implements OrderBrowseService {
         return Long.parseLong(jwt.getSubject());
     }
 
-    private Order getOrderAndVerifyOwnership(Long orderId, Long buyerUserId) {
-        Order order = orderRepository.findById(orderId)
+    /**
+     * Loads the order by id alone so a single query tells apart not found (404) and
+     * someone else's order (403). Misses are remembered to absorb id probing.
+     */
+    private Order findOrderWithItems(Long orderId) {
+        if (orderReadCache.isKnownMissing(orderId)) {
+            log.warn("OrderNotFoundException for orderId: {} (cached)", orderId);
+            throw new OrderNotFoundException(orderId);
+        }
+
+        return orderRepository.findByIdWithItems(orderId)
                 .orElseThrow(() -> {
                     log.warn("OrderNotFoundException for orderId: {}", orderId);
+                    orderReadCache.markMissing(orderId);
                     return new OrderNotFoundException(orderId);
                 });
+    }
 
-        if (!order.getBuyerUserId().equals(buyerUserId)) {
+    private void verifyOwnership(Long orderId, Long ownerUserId, Long buyerUserId) {
+        if (!ownerUserId.equals(buyerUserId)) {
             log.warn("OrderAccessDeniedException: BuyerId {} attempted to access orderId {} owned by {}",
-                    buyerUserId, orderId, order.getBuyerUserId());
+                    buyerUserId, orderId, ownerUserId);
             throw new OrderAccessDeniedException("You do not have permission to access this order.");
         }
-
-        return order;
     }
 }
@@ -0,0 +1,140 @@
+package com.ecommerce.order.service.orderbrowse;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.order.controller.orderbrowse.dto.OrderDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of what buyers re-read on every app refresh: order details by
+ * orderId and first pages of their order list by buyer. Orders change only a
+ * couple of times in their lifetime, and every change evicts the affected entries.
+ * Ids that were looked up and did not exist are remembered as well, so repeated
+ * probes for random ids are answered without a query.
+ * Hits and misses are exported as cache.gets{cache=orderDetails|orderFirstPages|orderMissing}.
+ */
+@Component
+public class OrderReadCache {
+
+    private static final String CACHE_DETAILS = "orderDetails";
+    private static final String CACHE_FIRST_PAGES = "orderFirstPages";
+    private static final String CACHE_MISSING = "orderMissing";
+
+    private final Cache<Long, OrderDetailResponse> orderDetails;
+    private final Cache<Long, ConcurrentMap<String, Object>> firstPages;
+    private final Cache<Long, Boolean> missingOrderIds;
+    private final Counter firstPageHits;
+    private final Counter firstPageMisses;
+
+    public OrderReadCache(MeterRegistry meterRegistry,
+            @Value("${order-cache.max-size:10000}") long maxSize,
+            @Value("${order-cache.ttl:PT5M}") Duration ttl,
+            @Value("${order-cache.missing.max-size:100000}") long missingMaxSize,
+            @Value("${order-cache.missing.ttl:PT10M}") Duration missingTtl) {
+        this.orderDetails = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.firstPages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.missingOrderIds = Caffeine.newBuilder()
+                .maximumSize(missingMaxSize)
+                .expireAfterWrite(missingTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, orderDetails, CACHE_DETAILS);
+        CaffeineCacheMetrics.monitor(meterRegistry, missingOrderIds, CACHE_MISSING);
+        this.firstPageHits = firstPageCounter(meterRegistry, "hit");
+        this.firstPageMisses = firstPageCounter(meterRegistry, "miss");
+    }
+
+    /**
+     * @return the cached detail whoever owns it (callers check ownership), or null
+     */
+    public OrderDetailResponse getDetail(Long orderId) {
+        return orderDetails.getIfPresent(orderId);
+    }
+
+    public void putDetail(OrderDetailResponse detail) {
+        orderDetails.put(detail.orderId(), detail);
+    }
+
+    /**
+     * Returns a buyer's cached first page, loading it on a miss.
+     *
+     * @param variant distinguishes page size, sort and pagination mode
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getFirstPage(Long buyerUserId, String variant, Supplier<T> loader) {
+        ConcurrentMap<String, Object> pages = firstPages.get(buyerUserId, id -> new ConcurrentHashMap<>());
+        Object cached = pages.get(variant);
+        if (cached != null) {
+            firstPageHits.increment();
+            return (T) cached;
+        }
+
+        firstPageMisses.increment();
+        T loaded = loader.get();
+        pages.put(variant, loaded);
+        return loaded;
+    }
+
+    public boolean isKnownMissing(Long orderId) {
+        return missingOrderIds.getIfPresent(orderId) != null;
+    }
+
+    public void markMissing(Long orderId) {
+        missingOrderIds.put(orderId, Boolean.TRUE);
+    }
+
+    public void evictBuyer(Long buyerUserId) {
+        firstPages.invalidate(buyerUserId);
+    }
+
+    public void evictOrder(Long orderId, Long buyerUserId) {
+        missingOrderIds.invalidate(orderId);
+        orderDetails.invalidate(orderId);
+        firstPages.invalidate(buyerUserId);
+    }
+
+    /**
+     * Evicts once the current transaction commits, or immediately when there is none.
+     */
+    public void evictOrderAfterCommit(Long orderId, Long buyerUserId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictOrder(orderId, buyerUserId);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictOrder(orderId, buyerUserId);
+            }
+        });
+    }
+
+    private static Counter firstPageCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.gets")
+                .description("The number of times cache lookup methods have returned a cached (hit) or uncached (miss) value.")
+                .tag("cache", CACHE_FIRST_PAGES)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,165 @@
+package com.ecommerce.order.service.ordercreation;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.order.controller.ordercreation.dto.CreateOrderRequest;
+import com.ecommerce.order.controller.ordercreation.dto.OrderDetailResponse;
+import com.ecommerce.order.exception.IdempotencyKeyConflictException;
+import com.ecommerce.order.exception.SaaSValidationException;
+import com.ecommerce.order.model.db.entity.OrderIdempotencyKey;
+import com.ecommerce.order.model.db.entity.OrderIdempotencyKeyId;
+import com.ecommerce.order.repository.db.OrderIdempotencyKeyRepository;
+import com.ecommerce.order.util.JsonUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key bookkeeping for order creation. The first response for a
+ * (buyer, key) pair is stored in order_idempotency_key, in the transaction that
+ * creates the order, and kept in a bounded cache once committed. Client retries
+ * (the same key with the same body) are answered from the cache or the table,
+ * without product lookups or inserts.
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyStore {
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final String METRIC_REPLAYS = "order.idempotency.replays";
+
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final JsonUtil jsonUtil;
+    private final Cache<OrderIdempotencyKeyId, StoredResponse> recentKeys;
+    private final Duration retention;
+    private final int purgeChunkSize;
+    private final Counter cacheReplays;
+    private final Counter tableReplays;
+
+    public IdempotencyKeyStore(OrderIdempotencyKeyRepository orderIdempotencyKeyRepository, JsonUtil jsonUtil,
+            MeterRegistry meterRegistry,
+            @Value("${order-idempotency.cache.max-size:10000}") long cacheMaxSize,
+            @Value("${order-idempotency.cache.ttl:PT10M}") Duration cacheTtl,
+            @Value("${order-idempotency.retention:P1D}") Duration retention,
+            @Value("${order-idempotency.purge.chunk-size:1000}") int purgeChunkSize) {
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.jsonUtil = jsonUtil;
+        this.recentKeys = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        this.retention = retention;
+        this.purgeChunkSize = purgeChunkSize;
+        this.cacheReplays = Counter.builder(METRIC_REPLAYS).tag("source", "cache").register(meterRegistry);
+        this.tableReplays = Counter.builder(METRIC_REPLAYS).tag("source", "table").register(meterRegistry);
+    }
+
+    public void validateKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new SaaSValidationException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters.");
+        }
+    }
+
+    /**
+     * SHA-256 of the request body, so a key reused for a different order is detected.
+     */
+    public String hash(CreateOrderRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(jsonUtil.toJson(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * @return the response stored for the key, or empty if the key has not been used yet
+     * @throws IdempotencyKeyConflictException if the key was used with a different request
+     */
+    public Optional<OrderDetailResponse> findReplay(Long buyerUserId, String idempotencyKey, String requestHash) {
+        OrderIdempotencyKeyId id = new OrderIdempotencyKeyId(buyerUserId, idempotencyKey);
+        StoredResponse stored = recentKeys.getIfPresent(id);
+        Counter replays = cacheReplays;
+        if (stored == null) {
+            Optional<OrderIdempotencyKey> row = orderIdempotencyKeyRepository.findById(id);
+            if (row.isEmpty()) {
+                return Optional.empty();
+            }
+            stored = new StoredResponse(row.get().getRequestHash(),
+                    jsonUtil.fromJson(row.get().getResponse(), OrderDetailResponse.class));
+            recentKeys.put(id, stored);
+            replays = tableReplays;
+        }
+
+        if (!stored.requestHash().equals(requestHash)) {
+            log.warn("Idempotency-Key {} of buyerUserId {} reused with a different request (orderId {})",
+                    idempotencyKey, buyerUserId, stored.response().orderId());
+            throw new IdempotencyKeyConflictException("Idempotency-Key was already used with a different request.");
+        }
+
+        replays.increment();
+        return Optional.of(stored.response());
+    }
+
+    /**
+     * Stores the responses in the caller's transaction, inserted in JDBC batches at
+     * flush; they are cached after commit.
+     */
+    public void recordAll(List<KeyedResponse> keyedResponses) {
+        if (keyedResponses.isEmpty()) {
+            return;
+        }
+        orderIdempotencyKeyRepository.saveAll(keyedResponses.stream()
+                .map(keyed -> new OrderIdempotencyKey(keyed.id(), keyed.requestHash(), keyed.response().orderId(),
+                        jsonUtil.toJson(keyed.response())))
+                .toList());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                keyedResponses.forEach(keyed -> recentKeys.put(keyed.id(),
+                        new StoredResponse(keyed.requestHash(), keyed.response())));
+            }
+        });
+    }
+
+    /**
+     * Keys older than the retention are forgotten; a retry after that creates a new order.
+     */
+    @Scheduled(cron = "${order-idempotency.purge.cron:0 45 * * * *}")
+    public void purgeExpired() {
+        Instant horizon = Instant.now().minus(retention);
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = orderIdempotencyKeyRepository.deleteCreatedBefore(horizon, purgeChunkSize);
+            purged += deleted;
+        } while (deleted == purgeChunkSize);
+
+        if (purged > 0) {
+            log.info("Purged {} idempotency keys created before {}", purged, horizon);
+        }
+    }
+
+    public record KeyedResponse(OrderIdempotencyKeyId id, String requestHash, OrderDetailResponse response) {
+    }
+
+    private record StoredResponse(String requestHash, OrderDetailResponse response) {
+    }
+}
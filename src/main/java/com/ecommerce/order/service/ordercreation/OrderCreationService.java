@@ -5,5 +5,9 @@ import com.ecommerce.order.controller.ordercreation.dto.OrderDetailResponse;
 
 public interface OrderCreationService {
 
-    OrderDetailResponse createOrder(CreateOrderRequest request);
+    /**
+     * @param idempotencyKey the client's Idempotency-Key, or null; a repeat with the same
+     *                       key and body returns the first response without creating an order
+     */
+    OrderDetailResponse createOrder(CreateOrderRequest request, String idempotencyKey);
 }
@@ -2,84 +2,121 @@ package com.ecommerce.order.service.ordercreation;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.ecommerce.order.client.product.ProductClient;
-import com.ecommerce.order.client.product.dto.ProductApiResponse;
+import com.ecommerce.order.client.product.ProductSnapshotCache;
 import com.ecommerce.order.client.product.dto.ProductData;
 import com.ecommerce.order.controller.ordercreation.dto.CreateOrderRequest;
 import com.ecommerce.order.controller.ordercreation.dto.OrderDetailResponse;
 import com.ecommerce.order.exception.InsufficientStockException;
-import com.ecommerce.order.exception.ProductFetchException;
 import com.ecommerce.order.exception.SaaSValidationException;
 import com.ecommerce.order.kafka.dto.EventMetadata;
-import com.ecommerce.order.kafka.dto.OrderItemDto;
 import com.ecommerce.order.model.db.entity.Order;
 import com.ecommerce.order.model.db.entity.OrderItem;
-import com.ecommerce.order.model.db.entity.OutboxEvent;
-import com.ecommerce.order.repository.db.OrderItemRepository;
-import com.ecommerce.order.repository.db.OrderRepository;
-import com.ecommerce.order.repository.db.OutboxEventRepository;
-import com.ecommerce.order.util.JsonUtil;
+import com.ecommerce.order.service.orderbrowse.OrderReadCache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.tracing.Span;
 import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Order creation runs in two phases: a non-transactional validation/enrichment
+ * phase (product lookups), then a short transactional persist phase in
+ * {@link OrderCreationWriter}. Both are timed under "order.creation.phase".
+ * Requests carrying an Idempotency-Key that was already used are answered by
+ * {@link IdempotencyKeyStore} before either phase runs. With group commit enabled
+ * the persist phase goes through {@link OrderGroupCommitter} instead.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderCreationServiceImpl implements OrderCreationService {
 
-    private final OrderRepository orderRepository;
-    private final OrderItemRepository orderItemRepository;
-    private final OutboxEventRepository outboxEventRepository;
-    private final ProductClient productClient;
-    private final JsonUtil jsonUtil;
-    private final Tracer tracer;
+    private static final String METRIC_PHASE = "order.creation.phase";
 
-    private static final String EVENT_TYPE_ORDER_CREATED = "ORDER_CREATED";
-    private static final String TOPIC_ORDERS = "orders";
-    private static final String STATUS_PENDING = "PENDING";
+    private final ProductSnapshotCache productSnapshotCache;
+    private final OrderCreationWriter orderCreationWriter;
+    private final ObjectProvider<OrderGroupCommitter> orderGroupCommitter;
+    private final OrderReadCache orderReadCache;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+    private final Tracer tracer;
+    private final MeterRegistry meterRegistry;
 
     @Override
-    @Transactional
-    public OrderDetailResponse createOrder(CreateOrderRequest request) {
+    public OrderDetailResponse createOrder(CreateOrderRequest request, String idempotencyKey) {
 
         Long buyerUserId = getAuthenticatedBuyerId();
         log.info("Attempting to create order for buyerUserId: {}", buyerUserId);
 
-        List<ProductData> fetchedProducts = new ArrayList<>();
-        for (CreateOrderRequest.ItemRequest itemReq : request.items()) {
-            try {
-                ProductApiResponse response = productClient.getProductById(itemReq.productId());
-                if (response == null || response.data() == null) {
-                    throw new ProductFetchException("Product not found (null response): " + itemReq.productId());
-                }
-                fetchedProducts.add(response.data());
-            } catch (Exception e) {
-                log.warn("Failed to fetch product data for productId: {}", itemReq.productId(), e);
-                throw new ProductFetchException("Product not found or service unavailable: " + itemReq.productId());
+        String requestHash = null;
+        if (idempotencyKey != null) {
+            idempotencyKeyStore.validateKey(idempotencyKey);
+            requestHash = idempotencyKeyStore.hash(request);
+            Optional<OrderDetailResponse> replay = idempotencyKeyStore.findReplay(buyerUserId, idempotencyKey,
+                    requestHash);
+            if (replay.isPresent()) {
+                log.info("Replaying orderId {} for Idempotency-Key {} of buyerUserId {}",
+                        replay.get().orderId(), idempotencyKey, buyerUserId);
+                return replay.get();
+            }
+        }
+
+        String keyHash = requestHash;
+        PendingOrder pendingOrder = phaseTimer("enrichment")
+                .record(() -> prepareOrder(request, buyerUserId, idempotencyKey, keyHash));
+        Order savedOrder;
+        try {
+            savedOrder = phaseTimer("persist").record(() -> persist(pendingOrder));
+        } catch (DataIntegrityViolationException e) {
+            if (idempotencyKey == null) {
+                throw e;
             }
+            // a concurrent retry with the same key committed first; its order stands
+            return idempotencyKeyStore.findReplay(buyerUserId, idempotencyKey, requestHash).orElseThrow(() -> e);
         }
+        // committed at this point
+        orderReadCache.evictOrder(savedOrder.getId(), buyerUserId);
+
+        return new OrderDetailResponse(savedOrder);
+    }
+
+    private PendingOrder prepareOrder(CreateOrderRequest request, Long buyerUserId, String idempotencyKey,
+            String requestHash) {
+        Map<Long, ProductData> fetchedProducts = new LinkedHashMap<>(productSnapshotCache.getProducts(
+                request.items().stream()
+                        .map(CreateOrderRequest.ItemRequest::productId)
+                        .collect(Collectors.toList())));
 
         Map<Long, Integer> requestedQuantities = request.items().stream()
                 .collect(Collectors.toMap(CreateOrderRequest.ItemRequest::productId,
                         CreateOrderRequest.ItemRequest::quantity));
+
+        // cached stock may be stale; only reject on what product-service says now
+        List<Long> shortOfStock = fetchedProducts.values().stream()
+                .filter(product -> product.stockAvailable() < requestedQuantities.get(product.id()))
+                .map(ProductData::id)
+                .toList();
+        if (!shortOfStock.isEmpty()) {
+            fetchedProducts.putAll(productSnapshotCache.refresh(shortOfStock));
+        }
         long totalAmount = 0L;
         List<OrderItem> orderItems = new ArrayList<>();
 
-        for (ProductData product : fetchedProducts) {
+        for (ProductData product : fetchedProducts.values()) {
             int requestedQuantity = requestedQuantities.get(product.id());
             if (product.sellerAdminId().equals(buyerUserId)) {
                 throw new SaaSValidationException("You cannot purchase your own products.");
@@ -97,41 +134,23 @@ public class OrderCreationServiceImpl implements OrderCreationService {
             totalAmount += (product.price() * requestedQuantity);
         }
 
-        Order newOrder = new Order();
-        newOrder.setBuyerUserId(buyerUserId);
-        newOrder.setTotalAmount(totalAmount);
-        newOrder.setStatus("PENDING");
-        Order savedOrder = orderRepository.save(newOrder);
+        return new PendingOrder(buyerUserId, totalAmount, orderItems, buildEventMetadata(buyerUserId),
+                idempotencyKey, requestHash);
+    }
 
-        for (OrderItem item : orderItems) {
-            item.setOrderId(savedOrder.getId());
+    private Order persist(PendingOrder pendingOrder) {
+        OrderGroupCommitter groupCommitter = orderGroupCommitter.getIfAvailable();
+        if (groupCommitter == null) {
+            return orderCreationWriter.persist(pendingOrder);
         }
-        orderItemRepository.saveAll(orderItems);
-
-        EventMetadata metadata = buildEventMetadata(buyerUserId);
-        Map<String, Object> payloadMap = Map.of(
-                "orderId", savedOrder.getId(),
-                "totalAmount", totalAmount,
-                "items", orderItems.stream()
-                        .map(item -> new OrderItemDto(item.getProductId(), item.getQuantity()))
-                        .collect(Collectors.toList()));
-
-        OutboxEvent event = OutboxEvent.builder()
-                .eventId(UUID.randomUUID().toString())
-                .aggregateType(TOPIC_ORDERS)
-                .aggregateId(savedOrder.getId().toString())
-                .eventType(EVENT_TYPE_ORDER_CREATED)
-                .payload(jsonUtil.toJson(payloadMap))
-                .metadata(jsonUtil.toJson(metadata))
-                .status(STATUS_PENDING)
-                .build();
-
-        outboxEventRepository.save(event);
-
-        log.info("Order {} created and Outbox event saved.", savedOrder.getId());
-
-        savedOrder.setItems(orderItems);
-        return new OrderDetailResponse(savedOrder);
+        return groupCommitter.submitAndWait(pendingOrder);
+    }
+
+    private Timer phaseTimer(String phase) {
+        return Timer.builder(METRIC_PHASE)
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     private Long getAuthenticatedBuyerId() {
@@ -0,0 +1,115 @@
+package com.ecommerce.order.service.ordercreation;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.order.controller.ordercreation.dto.OrderDetailResponse;
+import com.ecommerce.order.kafka.dto.OrderItemDto;
+import com.ecommerce.order.kafka.producer.OutboxRelaySignal;
+import com.ecommerce.order.model.db.entity.Order;
+import com.ecommerce.order.model.db.entity.OrderIdempotencyKeyId;
+import com.ecommerce.order.model.db.entity.OrderItem;
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.repository.db.OrderItemRepository;
+import com.ecommerce.order.repository.db.OrderRepository;
+import com.ecommerce.order.repository.db.OutboxEventRepository;
+import com.ecommerce.order.util.JsonUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persist phase of order creation: orders, order_items and the outbox event in one
+ * short transaction. No remote calls belong here, they would hold the connection.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCreationWriter {
+
+    private static final String EVENT_TYPE_ORDER_CREATED = "ORDER_CREATED";
+    private static final String TOPIC_ORDERS = "orders";
+    private static final String STATUS_PENDING = "PENDING";
+
+    private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxRelaySignal outboxRelaySignal;
+    private final IdempotencyKeyStore idempotencyKeyStore;
+    private final JsonUtil jsonUtil;
+
+    /**
+     * Persists a group of orders in one transaction (group commit), in order.
+     * Nothing is flushed before commit, so each table's inserts go out in JDBC batches;
+     * the group's Idempotency-Key rows are written after all of its orders.
+     */
+    @Transactional
+    public List<Order> persistAll(List<PendingOrder> pendingOrders) {
+        List<Order> savedOrders = new ArrayList<>(pendingOrders.size());
+        List<IdempotencyKeyStore.KeyedResponse> keyedResponses = new ArrayList<>();
+        for (PendingOrder pendingOrder : pendingOrders) {
+            Order savedOrder = write(pendingOrder);
+            savedOrders.add(savedOrder);
+            if (pendingOrder.idempotencyKey() != null) {
+                keyedResponses.add(new IdempotencyKeyStore.KeyedResponse(
+                        new OrderIdempotencyKeyId(pendingOrder.buyerUserId(), pendingOrder.idempotencyKey()),
+                        pendingOrder.requestHash(), new OrderDetailResponse(savedOrder)));
+            }
+        }
+        idempotencyKeyStore.recordAll(keyedResponses);
+        return savedOrders;
+    }
+
+    @Transactional
+    public Order persist(PendingOrder pendingOrder) {
+        return persistAll(List.of(pendingOrder)).get(0);
+    }
+
+    private Order write(PendingOrder pendingOrder) {
+        Order newOrder = new Order();
+        newOrder.setBuyerUserId(pendingOrder.buyerUserId());
+        newOrder.setTotalAmount(pendingOrder.totalAmount());
+        newOrder.setStatus(STATUS_PENDING);
+        // set here rather than at insert, so the response can be built before anything is flushed
+        newOrder.setCreatedAt(Instant.now());
+        Order savedOrder = orderRepository.save(newOrder);
+
+        for (OrderItem item : pendingOrder.items()) {
+            item.setOrderId(savedOrder.getId());
+        }
+        orderItemRepository.saveAll(pendingOrder.items());
+
+        Map<String, Object> payloadMap = Map.of(
+                "orderId", savedOrder.getId(),
+                "totalAmount", pendingOrder.totalAmount(),
+                "items", pendingOrder.items().stream()
+                        .map(item -> new OrderItemDto(item.getProductId(), item.getQuantity()))
+                        .collect(Collectors.toList()));
+
+        OutboxEvent event = OutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .aggregateType(TOPIC_ORDERS)
+                .aggregateId(savedOrder.getId().toString())
+                .eventType(EVENT_TYPE_ORDER_CREATED)
+                .payload(jsonUtil.toJson(payloadMap))
+                .metadata(jsonUtil.toJson(pendingOrder.metadata()))
+                .status(STATUS_PENDING)
+                .build();
+
+        outboxEventRepository.save(event);
+        outboxRelaySignal.signalAfterCommit();
+
+        savedOrder.setItems(pendingOrder.items());
+
+        log.info("Order {} created and Outbox event saved.", savedOrder.getId());
+
+        return savedOrder;
+    }
+}
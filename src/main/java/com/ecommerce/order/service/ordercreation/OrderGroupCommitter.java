@@ -0,0 +1,233 @@
+package com.ecommerce.order.service.ordercreation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.ecommerce.order.exception.OrderCommitTimeoutException;
+import com.ecommerce.order.exception.OrderQueueFullException;
+import com.ecommerce.order.model.db.entity.Order;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group-commit ingestion, enabled with order-creation.group-commit.enabled=true for
+ * flash sales. Callers hand their validated order to a bounded queue and wait; writer
+ * threads take whatever has queued up (up to max-batch) and persist it in a single
+ * transaction, so a burst of orders shares one commit instead of paying one each.
+ * A full queue is rejected right away (429) rather than piling up waiting requests.
+ * If a group fails, its orders are retried one by one so one bad order cannot fail
+ * the others. Callers wait at most wait-timeout-ms, so a stalled writer cannot hold
+ * request threads indefinitely.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order-creation.group-commit.enabled", havingValue = "true")
+public class OrderGroupCommitter implements SmartLifecycle {
+
+    private static final String METRIC_PREFIX = "order.group-commit";
+
+    private final OrderCreationWriter orderCreationWriter;
+    private final BlockingQueue<Submission> queue;
+    private final int maxBatch;
+    private final int writerThreads;
+    private final long waitTimeoutMs;
+    private final long shutdownTimeoutMs;
+    private final DistributionSummary batchSize;
+    private final Timer commitTimer;
+    private final Counter rejected;
+    private final Counter fallbacks;
+
+    private volatile boolean running;
+    private final List<Thread> writers = new ArrayList<>();
+
+    public OrderGroupCommitter(OrderCreationWriter orderCreationWriter, MeterRegistry meterRegistry,
+            @Value("${order-creation.group-commit.queue-capacity:4096}") int queueCapacity,
+            @Value("${order-creation.group-commit.max-batch:200}") int maxBatch,
+            @Value("${order-creation.group-commit.writer-threads:1}") int writerThreads,
+            @Value("${order-creation.group-commit.wait-timeout-ms:10000}") long waitTimeoutMs,
+            @Value("${order-creation.group-commit.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.orderCreationWriter = orderCreationWriter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatch = maxBatch;
+        this.writerThreads = writerThreads;
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.batchSize = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                .description("Orders persisted per group commit")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.commitTimer = Timer.builder(METRIC_PREFIX + ".commit")
+                .description("Time to persist and commit one group")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Orders rejected because the queue was full")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder(METRIC_PREFIX + ".fallbacks")
+                .description("Groups that failed and were retried one order at a time")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", queue, BlockingQueue::size)
+                .description("Orders waiting for a group commit")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the order and waits until its group has committed.
+     *
+     * @throws OrderQueueFullException if the queue is full, the service is stopping, or
+     *         the order was still queued when the wait timed out (it is withdrawn)
+     * @throws OrderCommitTimeoutException if the order was being written when the wait
+     *         timed out; it may still commit
+     */
+    public Order submitAndWait(PendingOrder pendingOrder) {
+        Submission submission = new Submission(pendingOrder, new CompletableFuture<>());
+        if (!running || !queue.offer(submission)) {
+            rejected.increment();
+            throw new OrderQueueFullException("Too many orders in flight, please retry shortly.");
+        }
+
+        try {
+            return submission.future().get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(submission)) {
+                rejected.increment();
+                throw new OrderQueueFullException("Too many orders in flight, please retry shortly.");
+            }
+            throw new OrderCommitTimeoutException(
+                    "Order is still being committed; retry with the same Idempotency-Key for its result.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderCommitTimeoutException("Interrupted while waiting for the order to commit.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < writerThreads; i++) {
+            Thread writer = new Thread(this::writeLoop, "order-group-commit-" + i);
+            writer.setDaemon(true);
+            writer.start();
+            writers.add(writer);
+        }
+        log.info("[GroupCommit] Started {} writer(s) (max batch {}, queue capacity {}).",
+                writerThreads, maxBatch, queue.remainingCapacity());
+    }
+
+    /**
+     * Stops accepting orders, then lets the writers drain what is already queued.
+     * Whatever is still queued when the shutdown timeout runs out is failed, so its
+     * callers get an answer instead of waiting on a writer that is gone.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMs;
+        for (Thread writer : writers) {
+            try {
+                writer.join(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        writers.clear();
+
+        List<Submission> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        if (!abandoned.isEmpty()) {
+            log.warn("[GroupCommit] Failing {} queued orders not written before shutdown.", abandoned.size());
+            OrderQueueFullException shuttingDown =
+                    new OrderQueueFullException("Service is shutting down, please retry shortly.");
+            abandoned.forEach(submission -> submission.future().completeExceptionally(shuttingDown));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void writeLoop() {
+        List<Submission> group = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                group.add(first);
+                queue.drainTo(group, maxBatch - 1);
+                commit(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable t) {
+                // keep the writer alive; a dead writer would leave every later caller waiting
+                log.error("[GroupCommit] Writer failed on a group of {} orders.", group.size(), t);
+                group.forEach(submission -> submission.future().completeExceptionally(t));
+            } finally {
+                group.clear();
+            }
+        }
+    }
+
+    private void commit(List<Submission> group) {
+        batchSize.record(group.size());
+        List<PendingOrder> pendingOrders = group.stream().map(Submission::pendingOrder).toList();
+
+        List<Order> savedOrders;
+        try {
+            savedOrders = commitTimer.recordCallable(() -> orderCreationWriter.persistAll(pendingOrders));
+        } catch (Exception e) {
+            if (group.size() == 1) {
+                group.get(0).future().completeExceptionally(e);
+                return;
+            }
+            log.warn("[GroupCommit] Group of {} orders failed, retrying one by one. Error: {}",
+                    group.size(), e.getMessage());
+            fallbacks.increment();
+            for (Submission submission : group) {
+                // ids handed out by the rolled-back inserts are gone
+                submission.pendingOrder().items().forEach(item -> item.setId(null));
+                try {
+                    submission.future().complete(orderCreationWriter.persist(submission.pendingOrder()));
+                } catch (Exception single) {
+                    submission.future().completeExceptionally(single);
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < group.size(); i++) {
+            group.get(i).future().complete(savedOrders.get(i));
+        }
+    }
+
+    private record Submission(PendingOrder pendingOrder, CompletableFuture<Order> future) {
+    }
+}
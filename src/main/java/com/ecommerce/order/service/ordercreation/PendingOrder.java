@@ -0,0 +1,21 @@
+package com.ecommerce.order.service.ordercreation;
+
+import java.util.List;
+
+import com.ecommerce.order.kafka.dto.EventMetadata;
+import com.ecommerce.order.model.db.entity.OrderItem;
+
+/**
+ * A validated and priced order that is ready to be persisted.
+ *
+ * @param idempotencyKey the client's Idempotency-Key, or null when none was sent
+ * @param requestHash hash of the request the key was first used with, null without a key
+ */
+public record PendingOrder(
+        Long buyerUserId,
+        long totalAmount,
+        List<OrderItem> items,
+        EventMetadata metadata,
+        String idempotencyKey,
+        String requestHash) {
+}
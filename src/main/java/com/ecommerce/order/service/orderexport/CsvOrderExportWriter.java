@@ -0,0 +1,51 @@
+package com.ecommerce.order.service.orderexport;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.ecommerce.order.repository.db.OrderExportRow;
+
+/**
+ * One line per item. Every column but the status is numeric or an ISO-8601 instant;
+ * the status is quoted per RFC 4180 when it contains a comma, quote or line break.
+ */
+class CsvOrderExportWriter implements OrderExportWriter {
+
+    private static final String HEADER =
+            "order_id,status,total_amount,created_at,product_id,seller_admin_id,quantity,unit_price\n";
+
+    private final Writer writer;
+
+    CsvOrderExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+    }
+
+    @Override
+    public void write(OrderExportRow row) throws IOException {
+        writer.append(Long.toString(row.orderId())).append(',')
+                .append(escape(row.status())).append(',')
+                .append(Long.toString(row.totalAmount())).append(',')
+                .append(row.createdAt().toString()).append(',')
+                .append(Long.toString(row.productId())).append(',')
+                .append(Long.toString(row.sellerAdminId())).append(',')
+                .append(Integer.toString(row.quantity())).append(',')
+                .append(Long.toString(row.unitPrice())).append('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
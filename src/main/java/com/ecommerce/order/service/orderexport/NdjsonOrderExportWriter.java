@@ -0,0 +1,63 @@
+package com.ecommerce.order.service.orderexport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.ecommerce.order.repository.db.OrderExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Groups adjacent rows of the same order into one JSON line with its items nested.
+ */
+class NdjsonOrderExportWriter implements OrderExportWriter {
+
+    private final JsonGenerator generator;
+    private boolean orderOpen;
+    private long currentOrderId;
+
+    NdjsonOrderExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void write(OrderExportRow row) throws IOException {
+        if (!orderOpen || row.orderId() != currentOrderId) {
+            endOrder();
+            generator.writeStartObject();
+            generator.writeNumberField("orderId", row.orderId());
+            generator.writeStringField("status", row.status());
+            generator.writeNumberField("totalAmount", row.totalAmount());
+            generator.writeStringField("createdAt", row.createdAt().toString());
+            generator.writeArrayFieldStart("items");
+            orderOpen = true;
+            currentOrderId = row.orderId();
+        }
+
+        generator.writeStartObject();
+        generator.writeNumberField("productId", row.productId());
+        generator.writeNumberField("sellerAdminId", row.sellerAdminId());
+        generator.writeNumberField("quantity", row.quantity());
+        generator.writeNumberField("unitPrice", row.unitPrice());
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (orderOpen) {
+            endOrder();
+            generator.writeRaw('\n');
+        }
+        generator.close();
+    }
+
+    private void endOrder() throws IOException {
+        if (orderOpen) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.order.service.orderexport;
+
+import org.springframework.http.MediaType;
+
+public enum OrderExportFormat {
+
+    /** One JSON object per order, items nested. */
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+
+    /** One line per item, order columns repeated. */
+    CSV(MediaType.parseMediaType("text/csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    OrderExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String fileExtension() {
+        return fileExtension;
+    }
+}
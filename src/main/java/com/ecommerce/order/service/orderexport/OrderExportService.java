@@ -0,0 +1,17 @@
+package com.ecommerce.order.service.orderexport;
+
+import java.time.Instant;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface OrderExportService {
+
+    /**
+     * Exports the authenticated buyer's orders created in [from, to), items included.
+     * The buyer is resolved on the calling thread; rows are written when the body runs.
+     *
+     * @param from inclusive lower bound, or null for the beginning
+     * @param to exclusive upper bound, or null for now
+     */
+    StreamingResponseBody exportMyOrders(OrderExportFormat format, Instant from, Instant to);
+}
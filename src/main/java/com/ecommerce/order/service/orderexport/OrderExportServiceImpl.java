@@ -0,0 +1,76 @@
+package com.ecommerce.order.service.orderexport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.ecommerce.order.repository.db.OrderExportRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderExportServiceImpl implements OrderExportService {
+
+    private final OrderExportRepository orderExportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public StreamingResponseBody exportMyOrders(OrderExportFormat format, Instant from, Instant to) {
+        Long buyerUserId = getAuthenticatedBuyerId();
+        Instant lowerBound = from != null ? from : Instant.EPOCH;
+        Instant upperBound = to != null ? to : Instant.now();
+
+        log.info("Exporting orders for buyerUserId: {} (Format: {}, From: {}, To: {})",
+                buyerUserId, format, lowerBound, upperBound);
+
+        return out -> {
+            long startNanos = System.nanoTime();
+            AtomicLong rows = new AtomicLong();
+            OrderExportWriter writer = createWriter(format, out);
+            try {
+                orderExportRepository.streamOrdersWithItems(buyerUserId, lowerBound, upperBound, row -> {
+                    try {
+                        writer.write(row);
+                        rows.incrementAndGet();
+                    } catch (IOException e) {
+                        // client went away; stop writing and let JdbcTemplate release the statement
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                log.warn("Order export aborted for buyerUserId: {} after {} rows. Error: {}",
+                        buyerUserId, rows.get(), e.getCause().getMessage());
+                throw e.getCause();
+            }
+            writer.finish();
+
+            log.info("Exported {} item rows for buyerUserId: {} in {} ms",
+                    rows.get(), buyerUserId, (System.nanoTime() - startNanos) / 1_000_000);
+        };
+    }
+
+    private OrderExportWriter createWriter(OrderExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonOrderExportWriter(objectMapper, out);
+            case CSV -> new CsvOrderExportWriter(out);
+        };
+    }
+
+    private Long getAuthenticatedBuyerId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Jwt jwt = (Jwt) authentication.getPrincipal();
+        return Long.parseLong(jwt.getSubject());
+    }
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.order.service.orderexport;
+
+import java.io.IOException;
+
+import com.ecommerce.order.repository.db.OrderExportRow;
+
+/**
+ * Writes rows as they arrive; implementations hold at most the current order.
+ */
+interface OrderExportWriter {
+
+    void write(OrderExportRow row) throws IOException;
+
+    /**
+     * Completes the output and flushes it; does not close the underlying stream.
+     */
+    void finish() throws IOException;
+}
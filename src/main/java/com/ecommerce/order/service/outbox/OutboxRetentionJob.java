@@ -0,0 +1,139 @@
+package com.ecommerce.order.service.outbox;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps outbox_event bounded: SENT events older than the retention horizon are
+ * archived to outbox_event_archive (or deleted), a chunk at a time with a pause
+ * between chunks so the purge never competes with the live poller.
+ */
+@Slf4j
+@Component
+public class OutboxRetentionJob {
+
+    private static final String MODE_ARCHIVE = "archive";
+    private static final List<String> MONITORED_TABLES = List.of("outbox_event", "outbox_event_archive");
+
+    private final OutboxRetentionWriter outboxRetentionWriter;
+    private final JdbcTemplate jdbcTemplate;
+    private final String mode;
+    private final Counter purgedRows;
+    private final Map<String, AtomicLong> tableRows = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> tableBytes = new ConcurrentHashMap<>();
+
+    @Value("${outbox.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${outbox.retention.horizon:P7D}")
+    private Duration horizon;
+
+    @Value("${outbox.retention.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${outbox.retention.chunk-pause-ms:200}")
+    private long chunkPauseMs;
+
+    @Value("${outbox.retention.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    public OutboxRetentionJob(OutboxRetentionWriter outboxRetentionWriter, JdbcTemplate jdbcTemplate,
+            MeterRegistry meterRegistry, @Value("${outbox.retention.mode:archive}") String mode) {
+        this.outboxRetentionWriter = outboxRetentionWriter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.mode = mode;
+        this.purgedRows = Counter.builder("outbox.retention.rows")
+                .description("SENT outbox rows removed by the retention job")
+                .tag("mode", mode)
+                .register(meterRegistry);
+
+        for (String table : MONITORED_TABLES) {
+            AtomicLong rows = new AtomicLong();
+            AtomicLong bytes = new AtomicLong();
+            tableRows.put(table, rows);
+            tableBytes.put(table, bytes);
+            Gauge.builder("outbox.table.rows", rows, AtomicLong::get)
+                    .description("Estimated row count (information_schema)")
+                    .tag("table", table)
+                    .register(meterRegistry);
+            Gauge.builder("outbox.table.size", bytes, AtomicLong::get)
+                    .description("Data and index size (information_schema)")
+                    .baseUnit("bytes")
+                    .tag("table", table)
+                    .register(meterRegistry);
+        }
+    }
+
+    @Scheduled(cron = "${outbox.retention.cron:0 */15 * * * *}")
+    public void purgeExpiredEvents() {
+        if (!enabled) {
+            return;
+        }
+
+        Instant cutoff = Instant.now().minus(horizon);
+        boolean archive = MODE_ARCHIVE.equalsIgnoreCase(mode);
+        long totalPurged = 0;
+
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            int purged;
+            try {
+                purged = outboxRetentionWriter.purgeChunk(cutoff, chunkSize, archive);
+            } catch (Exception e) {
+                // retry on next run
+                log.error("[Outbox Retention] Chunk failed after {} rows. Error: {}", totalPurged, e.getMessage());
+                break;
+            }
+
+            totalPurged += purged;
+            purgedRows.increment(purged);
+            if (purged < chunkSize) {
+                break;
+            }
+
+            try {
+                Thread.sleep(chunkPauseMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (totalPurged > 0) {
+            log.info("[Outbox Retention] Removed {} SENT events older than {} (mode: {}).",
+                    totalPurged, cutoff, mode);
+        }
+
+        refreshTableStats();
+    }
+
+    private void refreshTableStats() {
+        try {
+            jdbcTemplate.query(
+                    "SELECT TABLE_NAME, TABLE_ROWS, DATA_LENGTH + INDEX_LENGTH FROM information_schema.TABLES"
+                            + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME IN ('outbox_event', 'outbox_event_archive')",
+                    rs -> {
+                        String table = rs.getString(1).toLowerCase();
+                        if (tableRows.containsKey(table)) {
+                            tableRows.get(table).set(rs.getLong(2));
+                            tableBytes.get(table).set(rs.getLong(3));
+                        }
+                    });
+        } catch (Exception e) {
+            log.warn("[Outbox Retention] Failed to refresh table stats. Error: {}", e.getMessage());
+        }
+    }
+}
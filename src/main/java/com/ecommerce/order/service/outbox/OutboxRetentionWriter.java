@@ -0,0 +1,41 @@
+package com.ecommerce.order.service.outbox;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.order.repository.db.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Moves one chunk of expired SENT events per transaction, so row locks on
+ * outbox_event are only ever held for a single small chunk. Replicas running
+ * the job at the same time claim disjoint chunks.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRetentionWriter {
+
+    private static final String STATUS_SENT = "SENT";
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * @return number of rows removed from outbox_event
+     */
+    @Transactional
+    public int purgeChunk(Instant horizon, int chunkSize, boolean archive) {
+        List<Long> ids = outboxEventRepository.findIdsByStatusAndUpdatedAtBeforeForUpdate(STATUS_SENT, horizon, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        if (archive) {
+            outboxEventRepository.copyToArchiveByIdIn(ids);
+        }
+        return outboxEventRepository.deleteByIdIn(ids);
+    }
+}
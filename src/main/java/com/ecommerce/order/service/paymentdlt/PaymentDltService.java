@@ -0,0 +1,15 @@
+package com.ecommerce.order.service.paymentdlt;
+
+import com.ecommerce.order.controller.paymentdlt.dto.DltReplayResponse;
+
+public interface PaymentDltService {
+
+    /**
+     * Republishes up to {@code maxRecords} dead-lettered payment events to the
+     * payments topic, oldest first. Records dead-lettered as unreadable are
+     * skipped and committed past.
+     *
+     * @return number of records replayed and skipped
+     */
+    DltReplayResponse replayDeadLetters(int maxRecords);
+}
@@ -0,0 +1,164 @@
+package com.ecommerce.order.service.paymentdlt;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.ecommerce.order.controller.paymentdlt.dto.DltReplayResponse;
+import com.ecommerce.order.exception.DeadLetterTopicUnavailableException;
+import com.ecommerce.order.kafka.producer.PaymentRetryPublisher;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+public class PaymentDltServiceImpl implements PaymentDltService {
+
+    private static final String REPLAY_GROUP_ID = "order-service-dlt-replay";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final AtomicLong deadLetterDepth = new AtomicLong();
+
+    @Value("${kafka.consumer.payments.dlt.max-replay:1000}")
+    private int maxReplay;
+
+    @Value("${kafka.poller.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    public PaymentDltServiceImpl(ConsumerFactory<Object, Object> consumerFactory,
+            KafkaTemplate<String, String> kafkaTemplate, MeterRegistry meterRegistry) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        Gauge.builder("payments.dlt.depth", deadLetterDepth, AtomicLong::get)
+                .description("Dead-lettered payment events not replayed yet")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public DltReplayResponse replayDeadLetters(int maxRecords) {
+        int limit = Math.max(1, Math.min(maxRecords, maxReplay));
+        Map<TopicPartition, OffsetAndMetadata> replayedOffsets = new HashMap<>();
+        int replayed = 0;
+        int skipped = 0;
+
+        try (Consumer<Object, Object> consumer = createReplayConsumer(limit)) {
+            consumer.assign(deadLetterPartitions(consumer));
+
+            try {
+                while (replayed + skipped < limit) {
+                    ConsumerRecords<Object, Object> records = consumer.poll(POLL_TIMEOUT);
+                    if (records.isEmpty()) {
+                        break;
+                    }
+
+                    for (ConsumerRecord<Object, Object> record : records) {
+                        if (replayed + skipped >= limit) {
+                            break;
+                        }
+                        if (isUnreadable(record)) {
+                            // republishing would only dead-letter it again; it stays in the topic for inspection
+                            log.warn("[DLT] Skipped unreadable payment event at {}-{}@{}.",
+                                    record.topic(), record.partition(), record.offset());
+                            skipped++;
+                        } else {
+                            republish(record);
+                            replayed++;
+                        }
+                        replayedOffsets.put(new TopicPartition(record.topic(), record.partition()),
+                                new OffsetAndMetadata(record.offset() + 1));
+                    }
+                }
+            } finally {
+                // commit whatever made it back, even if a later send failed
+                if (!replayedOffsets.isEmpty()) {
+                    consumer.commitSync(replayedOffsets);
+                }
+            }
+        } catch (KafkaException e) {
+            throw new DeadLetterTopicUnavailableException(
+                    "Dead-letter replay failed after " + replayed + " events: " + e.getMessage());
+        }
+
+        log.info("[DLT] Replayed {} dead-lettered payment events, skipped {} unreadable.", replayed, skipped);
+        refreshDeadLetterDepth();
+        return new DltReplayResponse(replayed, skipped);
+    }
+
+    @Scheduled(fixedDelayString = "${kafka.consumer.payments.dlt.depth-refresh-ms:60000}")
+    public void refreshDeadLetterDepth() {
+        try (Consumer<Object, Object> consumer = createReplayConsumer(1)) {
+            Set<TopicPartition> partitions = Set.copyOf(deadLetterPartitions(consumer));
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(partitions);
+
+            long depth = 0;
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata committedOffset = committed.get(partition);
+                long start = Math.max(beginningOffsets.getOrDefault(partition, 0L),
+                        committedOffset == null ? 0L : committedOffset.offset());
+                depth += Math.max(0L, endOffsets.getOrDefault(partition, 0L) - start);
+            }
+            deadLetterDepth.set(depth);
+        } catch (Exception e) {
+            log.warn("[DLT] Failed to refresh dead-letter depth. Error: {}", e.getMessage());
+        }
+    }
+
+    private Consumer<Object, Object> createReplayConsumer(int maxPollRecords) {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Integer.toString(maxPollRecords));
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return consumerFactory.createConsumer(REPLAY_GROUP_ID, "dlt-replay", null, overrides);
+    }
+
+    private static List<TopicPartition> deadLetterPartitions(Consumer<Object, Object> consumer) {
+        return consumer.partitionsFor(PaymentRetryPublisher.TOPIC_PAYMENTS_DLT).stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+    }
+
+    private static boolean isUnreadable(ConsumerRecord<Object, Object> record) {
+        Header reason = record.headers().lastHeader(PaymentRetryPublisher.HEADER_DLT_REASON);
+        return reason != null && PaymentRetryPublisher.DLT_REASON_UNREADABLE
+                .equals(new String(reason.value(), StandardCharsets.UTF_8));
+    }
+
+    private void republish(ConsumerRecord<Object, Object> record) {
+        try {
+            // the event headers travel along, the retry bookkeeping starts over
+            kafkaTemplate.send(PaymentRetryPublisher.copyOf(record, PaymentRetryPublisher.TOPIC_PAYMENTS))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KafkaException("Interrupted while replaying dead-lettered payment event", e);
+        } catch (Exception e) {
+            throw new KafkaException("Failed to replay dead-lettered payment event", e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.order.service.sellerorder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum RevenuePeriod {
+
+    DAY,
+    /** ISO weeks, starting on Monday. */
+    WEEK,
+    MONTH;
+
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
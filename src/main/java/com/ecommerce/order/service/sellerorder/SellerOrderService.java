@@ -0,0 +1,27 @@
+package com.ecommerce.order.service.sellerorder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.ecommerce.order.controller.sellerorder.dto.SellerOrderResponse;
+import com.ecommerce.order.controller.sellerorder.dto.SellerRevenueResponse;
+import com.ecommerce.order.service.orderbrowse.CursorPage;
+
+public interface SellerOrderService {
+
+    /**
+     * Orders containing the authenticated seller's products, newest first.
+     *
+     * @param cursor the nextCursor of the previous page, or null for the first page
+     */
+    CursorPage<SellerOrderResponse> getMyOrders(String cursor, int size);
+
+    /**
+     * Revenue of the authenticated seller's succeeded orders per period, from the daily rollup.
+     * Periods without sales are omitted.
+     *
+     * @param from first day (UTC), inclusive
+     * @param to last day (UTC), inclusive
+     */
+    List<SellerRevenueResponse> getMyRevenue(LocalDate from, LocalDate to, RevenuePeriod period);
+}
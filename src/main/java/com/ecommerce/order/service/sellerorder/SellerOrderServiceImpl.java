@@ -0,0 +1,143 @@
+package com.ecommerce.order.service.sellerorder;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse;
+import com.ecommerce.order.controller.sellerorder.dto.SellerOrderItemResponse;
+import com.ecommerce.order.controller.sellerorder.dto.SellerOrderResponse;
+import com.ecommerce.order.controller.sellerorder.dto.SellerRevenueResponse;
+import com.ecommerce.order.exception.InvalidCursorException;
+import com.ecommerce.order.exception.SaaSValidationException;
+import com.ecommerce.order.model.db.entity.SellerDailyRevenue;
+import com.ecommerce.order.repository.db.OrderItemRepository;
+import com.ecommerce.order.repository.db.OrderRepository;
+import com.ecommerce.order.repository.db.SellerDailyRevenueRepository;
+import com.ecommerce.order.repository.db.SellerOrderLine;
+import com.ecommerce.order.service.orderbrowse.CursorPage;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SellerOrderServiceImpl implements SellerOrderService {
+
+    private final OrderItemRepository orderItemRepository;
+    private final OrderRepository orderRepository;
+    private final SellerDailyRevenueRepository sellerDailyRevenueRepository;
+    private final long maxRevenueRangeDays;
+
+    public SellerOrderServiceImpl(OrderItemRepository orderItemRepository,
+            OrderRepository orderRepository,
+            SellerDailyRevenueRepository sellerDailyRevenueRepository,
+            @Value("${seller-orders.revenue.max-range-days:1096}") long maxRevenueRangeDays) {
+        this.orderItemRepository = orderItemRepository;
+        this.orderRepository = orderRepository;
+        this.sellerDailyRevenueRepository = sellerDailyRevenueRepository;
+        this.maxRevenueRangeDays = maxRevenueRangeDays;
+    }
+
+    @Override
+    public CursorPage<SellerOrderResponse> getMyOrders(String cursor, int size) {
+        Long sellerAdminId = getAuthenticatedUserId();
+
+        log.info("Scrolling seller order list for sellerAdminId: {} (Cursor: {}, Size: {})",
+                sellerAdminId, cursor, size);
+
+        // one extra id tells whether another page exists
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<Long> orderIds = cursor == null || cursor.isBlank()
+                ? orderItemRepository.findFirstOrderIdPageBySellerAdminId(sellerAdminId, limit)
+                : orderItemRepository.findOrderIdPageBySellerAdminIdAfter(sellerAdminId, decodeCursor(cursor), limit);
+
+        String nextCursor = null;
+        if (orderIds.size() > size) {
+            orderIds = orderIds.subList(0, size);
+            nextCursor = orderIds.get(size - 1).toString();
+        }
+        if (orderIds.isEmpty()) {
+            return new CursorPage<>(List.of(), null);
+        }
+
+        Map<Long, List<SellerOrderLine>> linesByOrderId = orderItemRepository
+                .findSellerLinesByOrderIdIn(sellerAdminId, orderIds).stream()
+                .collect(Collectors.groupingBy(SellerOrderLine::orderId));
+        Map<Long, OrderSummaryResponse> ordersById = orderRepository.findSummariesByIdIn(orderIds).stream()
+                .collect(Collectors.toMap(OrderSummaryResponse::orderId, Function.identity()));
+
+        List<SellerOrderResponse> orders = new ArrayList<>(orderIds.size());
+        for (Long orderId : orderIds) {
+            OrderSummaryResponse order = ordersById.get(orderId);
+            if (order == null) {
+                // deleted between the two reads
+                continue;
+            }
+            List<SellerOrderLine> lines = linesByOrderId.getOrDefault(orderId, List.of());
+            long sellerAmount = lines.stream().mapToLong(line -> line.quantity() * line.unitPrice()).sum();
+            orders.add(new SellerOrderResponse(orderId, order.status(), order.createdAt(), sellerAmount,
+                    lines.stream().map(SellerOrderItemResponse::new).toList()));
+        }
+
+        return new CursorPage<>(orders, nextCursor);
+    }
+
+    @Override
+    public List<SellerRevenueResponse> getMyRevenue(LocalDate from, LocalDate to, RevenuePeriod period) {
+        Long sellerAdminId = getAuthenticatedUserId();
+
+        if (to.isBefore(from)) {
+            throw new SaaSValidationException("'to' must not be before 'from'.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRevenueRangeDays) {
+            throw new SaaSValidationException("Revenue range must not exceed " + maxRevenueRangeDays + " days.");
+        }
+
+        log.info("Fetching revenue for sellerAdminId: {} (From: {}, To: {}, Period: {})",
+                sellerAdminId, from, to, period);
+
+        Map<LocalDate, long[]> totalsByPeriod = new LinkedHashMap<>();
+        for (SellerDailyRevenue day : sellerDailyRevenueRepository
+                .findBySellerAdminIdAndRevenueDateBetween(sellerAdminId, from, to)) {
+            long[] totals = totalsByPeriod.computeIfAbsent(
+                    period.periodStart(day.getId().getRevenueDate()), start -> new long[3]);
+            totals[0] += day.getOrderCount();
+            totals[1] += day.getItemQuantity();
+            totals[2] += day.getRevenueAmount();
+        }
+
+        return totalsByPeriod.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0)
+                .map(entry -> new SellerRevenueResponse(entry.getKey(),
+                        entry.getValue()[0], entry.getValue()[1], entry.getValue()[2]))
+                .toList();
+    }
+
+    private Long decodeCursor(String cursor) {
+        try {
+            return Long.valueOf(cursor);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException("Invalid cursor.");
+        }
+    }
+
+    private Long getAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Jwt jwt = (Jwt) authentication.getPrincipal();
+        return Long.parseLong(jwt.getSubject());
+    }
+}
@@ -0,0 +1,71 @@
+package com.ecommerce.order.service.sellerorder;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ecommerce.order.model.db.entity.Order;
+import com.ecommerce.order.repository.db.OrderItemRepository;
+import com.ecommerce.order.repository.db.SellerDailyRevenueRepository;
+import com.ecommerce.order.repository.db.SellerOrderTotal;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps seller_daily_revenue in step with order status: an order entering SUCCEEDED
+ * adds each seller's share to the day the order was created (UTC), an order leaving
+ * SUCCEEDED takes it back. Runs in the saga's transaction so the rollup commits
+ * together with the status change.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SellerRevenueRollup {
+
+    private final OrderItemRepository orderItemRepository;
+    private final SellerDailyRevenueRepository sellerDailyRevenueRepository;
+
+    /**
+     * @param signs +1 for orders that entered SUCCEEDED, -1 for orders that left it
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void apply(Map<Order, Integer> signs) {
+        if (signs.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Order> ordersById = signs.keySet().stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        List<SellerOrderTotal> totals = orderItemRepository.sumBySellerForOrderIdIn(ordersById.keySet());
+
+        // several orders of one batch often land on the same seller and day
+        Map<SellerDay, long[]> deltas = new HashMap<>();
+        for (SellerOrderTotal total : totals) {
+            Order order = ordersById.get(total.orderId());
+            int sign = signs.get(order);
+            SellerDay key = new SellerDay(total.sellerAdminId(),
+                    LocalDate.ofInstant(order.getCreatedAt(), ZoneOffset.UTC));
+            long[] delta = deltas.computeIfAbsent(key, k -> new long[3]);
+            delta[0] += sign;
+            delta[1] += sign * total.itemQuantity();
+            delta[2] += sign * total.revenueAmount();
+        }
+
+        deltas.forEach((key, delta) -> sellerDailyRevenueRepository.addRevenue(
+                key.sellerAdminId(), key.revenueDate(), delta[0], delta[1], delta[2]));
+
+        log.info("[Saga] Rolled up revenue of {} orders into {} seller days.", signs.size(), deltas.size());
+    }
+
+    private record SellerDay(Long sellerAdminId, LocalDate revenueDate) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecommerce.order.client.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.order.client.product.dto.ProductData;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductSnapshotCacheTest {
+
+    private final ProductBatchFetcher productBatchFetcher = mock(ProductBatchFetcher.class);
+
+    @Test
+    void refreshReplacesTheStaleSnapshot() {
+        ProductSnapshotCache cache = cache(true);
+        when(productBatchFetcher.fetchProducts(any()))
+                .thenReturn(Map.of(1L, product(1L, 0)))
+                .thenReturn(Map.of(1L, product(1L, 5)));
+
+        assertThat(cache.getProducts(List.of(1L)).get(1L).stockAvailable()).isZero();
+        assertThat(cache.refresh(List.of(1L)).get(1L).stockAvailable()).isEqualTo(5);
+        assertThat(cache.getProducts(List.of(1L)).get(1L).stockAvailable()).isEqualTo(5);
+    }
+
+    @Test
+    void refreshIsANoOpWhenTheCacheIsDisabled() {
+        ProductSnapshotCache cache = cache(false);
+
+        assertThat(cache.refresh(List.of(1L))).isEmpty();
+        verify(productBatchFetcher, never()).fetchProducts(any());
+    }
+
+    private ProductSnapshotCache cache(boolean enabled) {
+        return new ProductSnapshotCache(productBatchFetcher, new SimpleMeterRegistry(), enabled, 100,
+                Duration.ofMinutes(1));
+    }
+
+    private static ProductData product(Long id, int stockAvailable) {
+        return new ProductData(id, 7L, 1000L, stockAvailable);
+    }
+}
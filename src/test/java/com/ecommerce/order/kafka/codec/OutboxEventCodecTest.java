@@ -0,0 +1,163 @@
+package com.ecommerce.order.kafka.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.util.JsonUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Round trips for both encodings, the mixed-format read path, and a rough
+ * bytes/message and encode/decode cost comparison.
+ */
+@Slf4j
+class OutboxEventCodecTest {
+
+    private static final int ITERATIONS = 50_000;
+
+    private final JsonUtil jsonUtil = new JsonUtil(Jackson2ObjectMapperBuilder.json().build());
+    private final OutboxEventCodec entityCodec = new OutboxEventCodec(jsonUtil, List.of());
+    private final OutboxEventCodec envelopeCodec = new OutboxEventCodec(jsonUtil, List.of("orders"));
+
+    @Test
+    void encodingIsChosenPerTopic() {
+        assertThat(envelopeCodec.encodingFor("orders")).isEqualTo(OutboxEventEncoding.ENVELOPE);
+        assertThat(envelopeCodec.encodingFor("payments")).isEqualTo(OutboxEventEncoding.ENTITY_JSON);
+        assertThat(entityCodec.encodingFor("orders")).isEqualTo(OutboxEventEncoding.ENTITY_JSON);
+    }
+
+    @Test
+    void envelopeCarriesPayloadUnescaped() {
+        OutboxEvent event = orderCreated();
+
+        ProducerRecord<String, String> record = envelopeCodec.encode(event);
+
+        assertThat(record.topic()).isEqualTo("orders");
+        assertThat(record.key()).isEqualTo(event.getAggregateId());
+        assertThat(record.value()).isEqualTo(event.getPayload());
+        assertThatTransfers(envelopeCodec.decode(toConsumerRecord(record)), event);
+    }
+
+    @Test
+    void readerAcceptsBothEncodings() {
+        OutboxEvent event = orderCreated();
+
+        // a consumer switched to the codec still reads what not-yet-migrated producers send
+        assertThatTransfers(envelopeCodec.decode(toConsumerRecord(entityCodec.encode(event))), event);
+        assertThatTransfers(entityCodec.decode(toConsumerRecord(envelopeCodec.encode(event))), event);
+    }
+
+    @Test
+    void envelopeWithoutEventIdIsRejected() {
+        ConsumerRecord<String, String> record = toConsumerRecord(envelopeCodec.encode(orderCreated()));
+        record.headers().remove(OutboxEventCodec.HEADER_EVENT_ID);
+
+        assertThatThrownBy(() -> envelopeCodec.decode(record)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void envelopeIsSmallerAndCheaper() {
+        OutboxEvent event = orderCreated();
+
+        Measurement entity = measure(entityCodec, event);
+        Measurement envelope = measure(envelopeCodec, event);
+
+        log.info("[Codec benchmark] entity-json: {} bytes, encode {} ns, decode {} ns",
+                entity.bytes(), entity.encodeNanos(), entity.decodeNanos());
+        log.info("[Codec benchmark] envelope: {} bytes, encode {} ns, decode {} ns",
+                envelope.bytes(), envelope.encodeNanos(), envelope.decodeNanos());
+
+        // headers counted in; timings vary too much between machines to assert on
+        assertThat(envelope.bytes()).isLessThan(entity.bytes());
+    }
+
+    private Measurement measure(OutboxEventCodec codec, OutboxEvent event) {
+        ConsumerRecord<String, String> consumerRecord = toConsumerRecord(codec.encode(event));
+
+        // the first pass warms up, the second is measured
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int pass = 0; pass < 2; pass++) {
+            encodeNanos = nanosPerOperation(event, codec::encode);
+            decodeNanos = nanosPerOperation(consumerRecord, codec::decode);
+        }
+        return new Measurement(serializedSize(consumerRecord), encodeNanos, decodeNanos);
+    }
+
+    private static <T> long nanosPerOperation(T input, Function<T, Object> operation) {
+        Object sink = null;
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = operation.apply(input);
+        }
+        long elapsed = System.nanoTime() - started;
+        assertThat(sink).isNotNull();
+        return elapsed / ITERATIONS;
+    }
+
+    private static int serializedSize(ConsumerRecord<String, String> record) {
+        int size = record.key().getBytes(StandardCharsets.UTF_8).length
+                + record.value().getBytes(StandardCharsets.UTF_8).length;
+        for (Header header : record.headers()) {
+            size += header.key().getBytes(StandardCharsets.UTF_8).length + header.value().length;
+        }
+        return size;
+    }
+
+    private static ConsumerRecord<String, String> toConsumerRecord(ProducerRecord<String, String> record) {
+        ConsumerRecord<String, String> consumerRecord = new ConsumerRecord<>(record.topic(), 0, 0L,
+                record.key(), record.value());
+        for (Header header : record.headers()) {
+            consumerRecord.headers().add(header);
+        }
+        return consumerRecord;
+    }
+
+    private static void assertThatTransfers(OutboxEvent decoded, OutboxEvent event) {
+        assertThat(decoded.getEventId()).isEqualTo(event.getEventId());
+        assertThat(decoded.getEventType()).isEqualTo(event.getEventType());
+        assertThat(decoded.getAggregateType()).isEqualTo(event.getAggregateType());
+        assertThat(decoded.getAggregateId()).isEqualTo(event.getAggregateId());
+        assertThat(decoded.getPayload()).isEqualTo(event.getPayload());
+        assertThat(decoded.getMetadata()).isEqualTo(event.getMetadata());
+    }
+
+    private static OutboxEvent orderCreated() {
+        Instant now = Instant.now();
+        return OutboxEvent.builder()
+                .id(4242L)
+                .eventId(UUID.randomUUID().toString())
+                .aggregateType("orders")
+                .aggregateId("4242")
+                .eventType("ORDER_CREATED")
+                .payload("{\"orderId\":4242,\"totalAmount\":17997,\"items\":["
+                        + "{\"productId\":101,\"quantity\":1},"
+                        + "{\"productId\":205,\"quantity\":2},"
+                        + "{\"productId\":317,\"quantity\":1}]}")
+                .metadata("{\"traceId\":\"" + UUID.randomUUID().toString().replace("-", "")
+                        + "\",\"causationId\":null,\"userId\":\"456\",\"timestamp\":" + now.toEpochMilli() + "}")
+                .status("PENDING")
+                .leaseOwner("order-service-7f9c")
+                .leaseExpiresAt(now.plusSeconds(30))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private record Measurement(int bytes, long encodeNanos, long decodeNanos) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.ecommerce.order.kafka.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.mock.MockProducerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.ecommerce.order.kafka.codec.OutboxEventCodec;
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.repository.db.OutboxEventRepository;
+import com.ecommerce.order.util.JsonUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the old send-and-wait loop with the pipelined poller against a mock
+ * producer that acknowledges outstanding records once per simulated broker round-trip.
+ * The assertions are on how many sends overlap; the rates are only logged.
+ */
+@Slf4j
+class OutboxEventPollerBenchmarkTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int ROUNDS = 5;
+    private static final long BROKER_RTT_MS = 2;
+
+    private SimulatedBrokerProducer producer;
+    private Thread broker;
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private JsonUtil jsonUtil;
+
+    @BeforeEach
+    void setUp() {
+        producer = new SimulatedBrokerProducer();
+        broker = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(BROKER_RTT_MS);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (producer.outstanding() < producer.ackThreshold) {
+                    continue;
+                }
+                while (producer.completeNext()) {
+                    // ack everything that arrived during this round-trip
+                }
+            }
+        });
+        broker.setDaemon(true);
+        broker.start();
+
+        kafkaTemplate = new KafkaTemplate<>(new MockProducerFactory<>(() -> producer));
+        jsonUtil = new JsonUtil(new ObjectMapper().findAndRegisterModules());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.interrupt();
+    }
+
+    @Test
+    void pipelinedPublishingOutperformsSequentialSends() throws Exception {
+        List<OutboxEvent> events = buildEvents();
+
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        OutboxEventClaimer claimer = mock(OutboxEventClaimer.class);
+        when(claimer.claimBatch(anyInt())).thenReturn(events);
+        OutboxEventPoller poller = new OutboxEventPoller(repository, claimer, kafkaTemplate,
+                new OutboxEventCodec(jsonUtil, List.of()));
+        ReflectionTestUtils.setField(poller, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(poller, "maxInFlight", BATCH_SIZE);
+        ReflectionTestUtils.setField(poller, "sendTimeoutMs", 10_000L);
+
+        // the broker holds its acks until a whole batch is outstanding, so a poller that
+        // waited per record would hang here instead of passing by timing luck
+        producer.ackThreshold = BATCH_SIZE;
+
+        // warm-up, so neither side pays for class loading and JIT
+        poller.pollOutboxEvents();
+
+        producer.ackThreshold = 1;
+        producer.maxOutstanding.set(0);
+        long sequentialStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (OutboxEvent event : events) {
+                kafkaTemplate.send(new ProducerRecord<>(event.getAggregateType(), event.getAggregateId(),
+                        jsonUtil.toJson(event))).get();
+            }
+        }
+        double sequentialRate = eventsPerSecond(sequentialStart);
+        int sequentialInFlight = producer.maxOutstanding.getAndSet(0);
+
+        producer.ackThreshold = BATCH_SIZE;
+        long pipelinedStart = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            poller.pollOutboxEvents();
+        }
+        double pipelinedRate = eventsPerSecond(pipelinedStart);
+        int pipelinedInFlight = producer.maxOutstanding.get();
+
+        log.info("[Outbox benchmark] rtt={}ms batch={} sequential={} events/s pipelined={} events/s",
+                BROKER_RTT_MS, BATCH_SIZE, Math.round(sequentialRate), Math.round(pipelinedRate));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> sentIds = ArgumentCaptor.forClass(Collection.class);
+        verify(repository, times(ROUNDS + 1)).updateStatusByIdIn(eq("SENT"), sentIds.capture());
+        assertThat(sentIds.getValue()).hasSize(BATCH_SIZE);
+        // the whole batch is on the wire before the first ack is awaited, versus one record at a time
+        assertThat(sequentialInFlight).isEqualTo(1);
+        assertThat(pipelinedInFlight).isEqualTo(BATCH_SIZE);
+    }
+
+    @Test
+    void failedSendsAreReleasedForTheNextPoll() {
+        List<OutboxEvent> events = buildEvents();
+        producer.failAcks = true;
+
+        OutboxEventRepository repository = mock(OutboxEventRepository.class);
+        OutboxEventClaimer claimer = mock(OutboxEventClaimer.class);
+        when(claimer.claimBatch(anyInt())).thenReturn(events);
+        when(claimer.getInstanceId()).thenReturn("poller-1");
+        OutboxEventPoller poller = new OutboxEventPoller(repository, claimer, kafkaTemplate,
+                new OutboxEventCodec(jsonUtil, List.of()));
+        ReflectionTestUtils.setField(poller, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(poller, "maxInFlight", BATCH_SIZE);
+        ReflectionTestUtils.setField(poller, "sendTimeoutMs", 10_000L);
+
+        assertThat(poller.publishPendingEvents()).isZero();
+
+        verify(repository, never()).updateStatusByIdIn(eq("SENT"), anyCollection());
+        verify(repository).releaseLeaseByIdIn(events.stream().map(OutboxEvent::getId).toList(), "poller-1");
+    }
+
+    private static List<OutboxEvent> buildEvents() {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (long id = 1; id <= BATCH_SIZE; id++) {
+            events.add(OutboxEvent.builder()
+                    .id(id)
+                    .eventId(UUID.randomUUID().toString())
+                    .aggregateType("orders")
+                    .aggregateId(Long.toString(id))
+                    .eventType("ORDER_CREATED")
+                    .payload("{\"orderId\":" + id + ",\"totalAmount\":5999,\"items\":[]}")
+                    .metadata("{\"traceId\":\"bench\"}")
+                    .status("PENDING")
+                    .build());
+        }
+        return events;
+    }
+
+    private static double eventsPerSecond(long startNanos) {
+        return (double) BATCH_SIZE * ROUNDS / Duration.ofNanos(System.nanoTime() - startNanos).toNanos() * 1e9;
+    }
+
+    /**
+     * KafkaTemplate closes non-factory-managed producers after each send, which
+     * would make a plain MockProducer unusable for the next record.
+     */
+    private static class SimulatedBrokerProducer extends MockProducer<String, String> {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger maxOutstanding = new AtomicInteger();
+        private volatile int ackThreshold = 1;
+        private volatile boolean failAcks;
+
+        SimulatedBrokerProducer() {
+            super(false, new StringSerializer(), new StringSerializer());
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record, Callback callback) {
+            maxOutstanding.accumulateAndGet(outstanding.incrementAndGet(), Math::max);
+            return super.send(record, callback);
+        }
+
+        @Override
+        public synchronized boolean completeNext() {
+            boolean acked = failAcks ? super.errorNext(new TimeoutException("broker unavailable")) : super.completeNext();
+            if (!acked) {
+                return false;
+            }
+            outstanding.decrementAndGet();
+            return true;
+        }
+
+        int outstanding() {
+            return outstanding.get();
+        }
+
+        @Override
+        public void close(Duration timeout) {
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.ecommerce.order.kafka.producer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ecommerce.order.kafka.codec.OutboxEventCodec;
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.util.JsonUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Publishes synthetic ORDER_CREATED events once per producer setting and reports
+ * events/s and MB/s, so linger, batch size and compression can be compared on the
+ * same broker. A plain main on the test classpath: it builds nothing but the
+ * producers, and none of it ships in the service jar. acks=all and idempotence
+ * stay on for every setting, as in application.yaml.
+ * Run it against a throwaway local broker, never a shared cluster:
+ * <pre>
+ * docker run -d -p 9092:9092 apache/kafka:3.7.0
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/test.classpath
+ * java -cp target/classes:target/test-classes:$(cat target/test.classpath) \
+ *     -Dkafka.benchmark.bootstrap-servers=localhost:9092 \
+ *     com.ecommerce.order.kafka.producer.ProducerThroughputBenchmark
+ * </pre>
+ * Other system properties: kafka.benchmark.topic, kafka.benchmark.events,
+ * kafka.benchmark.settings (compression:linger.ms:batch.size, comma separated) and
+ * kafka.encoding.envelope-topics (add "orders" to measure the envelope encoding).
+ */
+@Slf4j
+public class ProducerThroughputBenchmark {
+
+    private static final String DEFAULT_SETTINGS =
+            "none:0:16384,lz4:0:16384,lz4:5:65536,zstd:5:65536,lz4:20:262144,zstd:20:262144";
+
+    private final Function<Map<String, Object>, Producer<String, String>> producerFactory;
+    private final OutboxEventCodec outboxEventCodec;
+    private final String topic;
+    private final int events;
+    private final List<String> settings;
+
+    ProducerThroughputBenchmark(Function<Map<String, Object>, Producer<String, String>> producerFactory,
+            OutboxEventCodec outboxEventCodec, String topic, int events, List<String> settings) {
+        this.producerFactory = producerFactory;
+        this.outboxEventCodec = outboxEventCodec;
+        this.topic = topic;
+        this.events = events;
+        this.settings = settings;
+    }
+
+    public static void main(String[] args) {
+        String bootstrapServers = System.getProperty("kafka.benchmark.bootstrap-servers", "localhost:9092");
+        List<String> envelopeTopics = Arrays.stream(System.getProperty("kafka.encoding.envelope-topics", "").split(","))
+                .map(String::trim)
+                .filter(topic -> !topic.isEmpty())
+                .toList();
+
+        ProducerThroughputBenchmark benchmark = new ProducerThroughputBenchmark(overrides -> {
+            Map<String, Object> config = new HashMap<>(overrides);
+            config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+            config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+            // a producer of its own per setting, closed after it; a shared factory producer would carry over
+            return new KafkaProducer<>(config, new StringSerializer(), new StringSerializer());
+        }, new OutboxEventCodec(new JsonUtil(Jackson2ObjectMapperBuilder.json().build()), envelopeTopics),
+                System.getProperty("kafka.benchmark.topic", "orders.benchmark"),
+                Integer.getInteger("kafka.benchmark.events", 200_000),
+                Arrays.asList(System.getProperty("kafka.benchmark.settings", DEFAULT_SETTINGS).split(",")));
+        benchmark.run();
+    }
+
+    void run() {
+        List<ProducerRecord<String, String>> records = buildRecords();
+        List<Result> results = new ArrayList<>();
+        for (String setting : settings) {
+            results.add(measure(Setting.parse(setting), records));
+        }
+
+        log.info("[Benchmark] {} ORDER_CREATED events per setting to topic '{}', acks=all, idempotent", events, topic);
+        log.info("[Benchmark] {}", String.format("%-6s %7s %9s %12s %8s %13s %13s",
+                "codec", "linger", "batch", "events/s", "MB/s", "compression", "avg batch B"));
+        for (Result result : results) {
+            log.info("[Benchmark] {}", String.format("%-6s %5dms %9d %12.0f %8.2f %13.2f %13.0f",
+                    result.setting().compression(), result.setting().lingerMs(), result.setting().batchSize(),
+                    result.eventsPerSecond(), result.megabytesPerSecond(), result.compressionRate(),
+                    result.averageBatchBytes()));
+        }
+    }
+
+    /**
+     * Sends every record with one producer and waits for all acks. MB/s counts the
+     * uncompressed key, value and header bytes, so settings compare on the same scale.
+     */
+    Result measure(Setting setting, List<ProducerRecord<String, String>> records) {
+        Map<String, Object> overrides = Map.of(
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, setting.compression(),
+                ProducerConfig.LINGER_MS_CONFIG, setting.lingerMs(),
+                ProducerConfig.BATCH_SIZE_CONFIG, setting.batchSize(),
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        try (Producer<String, String> producer = producerFactory.apply(overrides)) {
+            // warm-up: metadata fetch, producer id and connection setup stay out of the measurement
+            producer.send(records.get(0));
+            producer.flush();
+
+            AtomicLong failures = new AtomicLong();
+            long bytes = 0;
+            long started = System.nanoTime();
+            for (ProducerRecord<String, String> record : records) {
+                producer.send(record, (metadata, ex) -> {
+                    if (ex != null) {
+                        failures.incrementAndGet();
+                    }
+                });
+                bytes += sizeOf(record);
+            }
+            producer.flush();
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            if (failures.get() > 0) {
+                log.warn("[Benchmark] {} of {} sends failed with {}", failures.get(), records.size(), setting);
+            }
+            Map<MetricName, ? extends Metric> metrics = producer.metrics();
+            return new Result(setting, records.size() / seconds, bytes / seconds / (1024 * 1024),
+                    metric(metrics, "compression-rate-avg"), metric(metrics, "batch-size-avg"));
+        }
+    }
+
+    List<ProducerRecord<String, String>> buildRecords() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<ProducerRecord<String, String>> records = new ArrayList<>(events);
+        for (long orderId = 1; orderId <= events; orderId++) {
+            StringBuilder items = new StringBuilder();
+            int itemCount = random.nextInt(1, 6);
+            for (int i = 0; i < itemCount; i++) {
+                items.append(i == 0 ? "" : ",")
+                        .append("{\"productId\":").append(random.nextLong(1, 100_000))
+                        .append(",\"quantity\":").append(random.nextInt(1, 5)).append('}');
+            }
+            OutboxEvent event = OutboxEvent.builder()
+                    .id(orderId)
+                    .eventId(UUID.randomUUID().toString())
+                    .aggregateType("orders")
+                    .aggregateId(Long.toString(orderId))
+                    .eventType("ORDER_CREATED")
+                    .payload("{\"orderId\":" + orderId + ",\"totalAmount\":" + random.nextLong(100, 1_000_000)
+                            + ",\"items\":[" + items + "]}")
+                    .metadata("{\"traceId\":\"" + UUID.randomUUID().toString().replace("-", "")
+                            + "\",\"causationId\":null,\"userId\":\"" + random.nextLong(1, 1_000_000)
+                            + "\",\"timestamp\":" + System.currentTimeMillis() + "}")
+                    .status("PENDING")
+                    .build();
+
+            // the wire format the orders topic is configured for, on the benchmark topic
+            ProducerRecord<String, String> encoded = outboxEventCodec.encode(event);
+            records.add(new ProducerRecord<>(topic, null, encoded.key(), encoded.value(), encoded.headers()));
+        }
+        return records;
+    }
+
+    private static long sizeOf(ProducerRecord<String, String> record) {
+        long size = record.key().getBytes(StandardCharsets.UTF_8).length
+                + record.value().getBytes(StandardCharsets.UTF_8).length;
+        for (Header header : record.headers()) {
+            size += header.key().length() + header.value().length;
+        }
+        return size;
+    }
+
+    private static double metric(Map<MetricName, ? extends Metric> metrics, String name) {
+        return metrics.entrySet().stream()
+                .filter(entry -> entry.getKey().group().equals("producer-metrics")
+                        && entry.getKey().name().equals(name))
+                .map(entry -> entry.getValue().metricValue())
+                .filter(Number.class::isInstance)
+                .mapToDouble(value -> ((Number) value).doubleValue())
+                .findFirst()
+                .orElse(Double.NaN);
+    }
+
+    record Setting(String compression, int lingerMs, int batchSize) {
+
+        /**
+         * Parses compression:linger.ms:batch.size, e.g. lz4:5:65536.
+         */
+        static Setting parse(String setting) {
+            String[] parts = setting.trim().split(":");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected compression:linger.ms:batch.size, got: " + setting);
+            }
+            return new Setting(parts[0].trim(), Integer.parseInt(parts[1].trim()), Integer.parseInt(parts[2].trim()));
+        }
+    }
+
+    record Result(Setting setting, double eventsPerSecond, double megabytesPerSecond, double compressionRate,
+            double averageBatchBytes) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.order.kafka.producer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.order.kafka.codec.OutboxEventCodec;
+import com.ecommerce.order.kafka.producer.ProducerThroughputBenchmark.Result;
+import com.ecommerce.order.kafka.producer.ProducerThroughputBenchmark.Setting;
+import com.ecommerce.order.util.JsonUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The benchmark loop against a MockProducer; the numbers only mean something on a real broker.
+ */
+class ProducerThroughputBenchmarkTest {
+
+    private static final int EVENTS = 1_000;
+
+    private final List<Map<String, Object>> producerOverrides = new ArrayList<>();
+    private final MockProducer<String, String> producer =
+            new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+
+    private final ProducerThroughputBenchmark benchmark = new ProducerThroughputBenchmark(overrides -> {
+        producerOverrides.add(overrides);
+        return producer;
+    }, new OutboxEventCodec(new JsonUtil(new ObjectMapper()), List.of("orders")),
+            "orders.benchmark", EVENTS, List.of());
+
+    @Test
+    void parsesSettings() {
+        assertThat(Setting.parse(" zstd:20:262144")).isEqualTo(new Setting("zstd", 20, 262144));
+        assertThatThrownBy(() -> Setting.parse("lz4:5")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void publishesEveryEventWithTheSetting() {
+        List<ProducerRecord<String, String>> records = benchmark.buildRecords();
+
+        Result result = benchmark.measure(new Setting("lz4", 5, 65536), records);
+
+        // one warm-up send, then the measured run
+        assertThat(producer.history()).hasSize(EVENTS + 1);
+        assertThat(producer.history()).allSatisfy(record -> assertThat(record.topic()).isEqualTo("orders.benchmark"));
+        assertThat(producerOverrides).singleElement().satisfies(overrides -> assertThat(overrides)
+                .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4")
+                .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 5)
+                .containsEntry(ProducerConfig.BATCH_SIZE_CONFIG, 65536)
+                .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true));
+        assertThat(result.eventsPerSecond()).isPositive();
+        assertThat(result.megabytesPerSecond()).isPositive();
+    }
+}
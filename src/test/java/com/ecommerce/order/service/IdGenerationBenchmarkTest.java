@@ -0,0 +1,132 @@
+package com.ecommerce.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.function.IntFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Inserts the same rows with IDENTITY ids and with the pooled id_block generator the
+ * order tables use, in transactions the size of a group commit, and reports inserts/sec
+ * and statements per row. H2 in memory has no network round trip, so the statement count
+ * is what carries over to MySQL; the timing is only indicative.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.datasource.url=jdbc:h2:mem:idbenchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdGenerationBenchmarkTest {
+
+    private static final int ROWS = 5_000;
+    private static final int ROWS_PER_TRANSACTION = 50;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void pooledIdsBatchInserts() {
+        // warm up both paths so class loading and statement caches don't skew the first run
+        insert("identity (warm-up)", IdentityRow::new, ROWS_PER_TRANSACTION * 4);
+        insert("pooled (warm-up)", PooledRow::new, ROWS_PER_TRANSACTION * 4);
+
+        long identityStatements = insert("identity", IdentityRow::new, ROWS);
+        long pooledStatements = insert("pooled", PooledRow::new, ROWS);
+
+        // IDENTITY needs the generated key back, one INSERT per row; pooled ids batch
+        assertThat(identityStatements).isGreaterThanOrEqualTo(ROWS);
+        assertThat(pooledStatements).isLessThan(identityStatements / 10);
+    }
+
+    private long insert(String strategy, IntFunction<Object> rowFactory, int rows) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        statistics.clear();
+
+        long started = System.nanoTime();
+        for (int first = 0; first < rows; first += ROWS_PER_TRANSACTION) {
+            int from = first;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = from; i < Math.min(from + ROWS_PER_TRANSACTION, rows); i++) {
+                    entityManager.persist(rowFactory.apply(i));
+                }
+            });
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        long statements = statistics.getPrepareStatementCount();
+        log.info("{}: {} rows, {} inserts/sec, {} statements ({} per row)", strategy, rows,
+                Math.round(rows / seconds), statements, String.format("%.2f", (double) statements / rows));
+        return statements;
+    }
+
+    @Entity
+    @Table(name = "benchmark_identity_row")
+    static class IdentityRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        private long amount;
+
+        protected IdentityRow() {
+        }
+
+        IdentityRow(long amount) {
+            this.amount = amount;
+        }
+    }
+
+    @Entity
+    @Table(name = "benchmark_pooled_row")
+    static class PooledRow {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "benchmark_pooled_row_id")
+        @TableGenerator(name = "benchmark_pooled_row_id", table = "benchmark_id_block", pkColumnName = "sequence_name",
+                valueColumnName = "next_val", pkColumnValue = "benchmark_pooled_row", allocationSize = 50)
+        private Long id;
+
+        private long amount;
+
+        protected PooledRow() {
+        }
+
+        PooledRow(long amount) {
+            this.amount = amount;
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.ecommerce.order.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import com.ecommerce.order.kafka.dto.EventMetadata;
+import com.ecommerce.order.kafka.dto.SagaEventPayload;
+import com.ecommerce.order.kafka.producer.OutboxRelaySignal;
+import com.ecommerce.order.model.db.entity.Order;
+import com.ecommerce.order.model.db.entity.OrderItem;
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.repository.db.OrderRepository;
+import com.ecommerce.order.repository.db.SellerDailyRevenueRepository;
+import com.ecommerce.order.service.order.InboxDeduplicator;
+import com.ecommerce.order.service.order.OrderSagaServiceImpl;
+import com.ecommerce.order.service.orderbrowse.OrderBrowseServiceImpl;
+import com.ecommerce.order.service.orderbrowse.OrderReadCache;
+import com.ecommerce.order.service.ordercreation.IdempotencyKeyStore;
+import com.ecommerce.order.service.ordercreation.OrderCreationWriter;
+import com.ecommerce.order.service.ordercreation.PendingOrder;
+import com.ecommerce.order.service.sellerorder.SellerRevenueRollup;
+import com.ecommerce.order.util.JsonUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Statement budgets for the browse, saga and order creation paths. A lazy item load sneaking into
+ * one of them (N+1), or a fetch join fanning out, pushes it over budget.
+ * Runs on H2 in MySQL mode with the schema generated from the entities, since
+ * the Liquibase changelog is MySQL-specific.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ OrderBrowseServiceImpl.class, OrderReadCache.class, OrderSagaServiceImpl.class, InboxDeduplicator.class,
+        OutboxRelaySignal.class, SellerRevenueRollup.class, OrderCreationWriter.class, IdempotencyKeyStore.class,
+        JsonUtil.class, SimpleMeterRegistry.class })
+class OrderQueryCountTest {
+
+    private static final int ORDERS = 3;
+    private static final int ITEMS_PER_ORDER = 2;
+    private static final int GROUP_SIZE = 40;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderBrowseServiceImpl orderBrowseService;
+
+    @Autowired
+    private OrderSagaServiceImpl orderSagaService;
+
+    @Autowired
+    private OrderCreationWriter orderCreationWriter;
+
+    @Autowired
+    private JsonUtil jsonUtil;
+
+    // H2 cannot parse the MySQL row alias form of the upsert
+    @MockBean
+    private SellerDailyRevenueRepository sellerDailyRevenueRepository;
+
+    private SqlStatementCounter statementCounter;
+    private Long buyerUserId;
+    private List<Order> orders;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new SqlStatementCounter(entityManager);
+        // a fresh buyer per test keeps OrderReadCache from answering
+        buyerUserId = Math.abs(UUID.randomUUID().getMostSignificantBits());
+        orders = new ArrayList<>();
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(persistOrder(buyerUserId, 1000L + i));
+        }
+
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").subject(buyerUserId.toString()).build();
+        SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(jwt));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void orderDetailIsOneQuery() {
+        statementCounter.assertAtMost(1,
+                () -> orderBrowseService.getMyOrderById(orders.get(0).getId()).items().size());
+    }
+
+    @Test
+    void firstOrderPageIsOneQuery() {
+        // fewer rows than the page size, so Spring Data skips the count query
+        statementCounter.assertAtMost(1,
+                () -> orderBrowseService.getMyOrders(PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Test
+    void firstOrderScrollPageIsOneQuery() {
+        statementCounter.assertAtMost(1, () -> orderBrowseService.getMyOrders(null, 10));
+    }
+
+    @Test
+    void itemsOfSeveralOrdersAreBatchFetched() {
+        // orders, then the items of all of them in one IN query
+        statementCounter.assertAtMost(2, () -> orderRepository
+                .findAllById(orders.stream().map(Order::getId).toList())
+                .forEach(order -> order.getItems().size()));
+    }
+
+    @Test
+    void paymentBatchDoesNotLoadItems() {
+        List<OutboxEvent> events = orders.stream().map(this::paymentSucceeded).toList();
+
+        // per event: inbox insert, outbox insert; per batch: orders select, status update batch,
+        // rollup sum select. The rollup upsert (one per seller day) is counted on the mock.
+        statementCounter.assertAtMost(2 * ORDERS + 3, () -> orderSagaService.processPaymentResults(events));
+        verify(sellerDailyRevenueRepository, times(ORDERS))
+                .addRevenue(anyLong(), any(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void keyedGroupCommitIsBatched() {
+        List<PendingOrder> pendingOrders = new ArrayList<>();
+        for (int i = 0; i < GROUP_SIZE; i++) {
+            pendingOrders.add(keyedPendingOrder("key-" + i));
+        }
+
+        // one insert batch each for orders, order_items, outbox and order_idempotency_key (all below
+        // hibernate.jdbc.batch_size), plus at most a select and an update per id_block row
+        statementCounter.assertAtMost(4 + 2 * 3, () -> orderCreationWriter.persistAll(pendingOrders));
+    }
+
+    private PendingOrder keyedPendingOrder(String idempotencyKey) {
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            OrderItem item = new OrderItem();
+            item.setProductId(100L + i);
+            item.setSellerAdminId(1000L);
+            item.setQuantity(1);
+            item.setUnitPrice(500L);
+            items.add(item);
+        }
+        EventMetadata metadata = EventMetadata.builder()
+                .traceId(UUID.randomUUID().toString())
+                .userId(buyerUserId.toString())
+                .timestamp(System.currentTimeMillis())
+                .build();
+        return new PendingOrder(buyerUserId, ITEMS_PER_ORDER * 500L, items, metadata, idempotencyKey, "0".repeat(64));
+    }
+
+    private Order persistOrder(Long buyer, Long sellerAdminId) {
+        Order order = new Order();
+        order.setBuyerUserId(buyer);
+        order.setStatus("PENDING");
+        order.setTotalAmount(ITEMS_PER_ORDER * 500L);
+        entityManager.persist(order);
+
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            OrderItem item = new OrderItem();
+            item.setOrderId(order.getId());
+            item.setProductId(100L + i);
+            item.setSellerAdminId(sellerAdminId);
+            item.setQuantity(1);
+            item.setUnitPrice(500L);
+            entityManager.persist(item);
+        }
+        return order;
+    }
+
+    private OutboxEvent paymentSucceeded(Order order) {
+        EventMetadata metadata = EventMetadata.builder()
+                .traceId(UUID.randomUUID().toString())
+                .userId(buyerUserId.toString())
+                .timestamp(System.currentTimeMillis())
+                .build();
+
+        return OutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .aggregateType("payments")
+                .aggregateId(order.getId().toString())
+                .eventType("PAYMENT_SUCCEEDED")
+                .payload(jsonUtil.toJson(new SagaEventPayload(order.getId(), order.getTotalAmount(), List.of())))
+                .metadata(jsonUtil.toJson(metadata))
+                .status("PENDING")
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ecommerce.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ecommerce.order.controller.orderbrowse.dto.OrderSummaryResponse;
+import com.ecommerce.order.model.db.entity.Order;
+import com.ecommerce.order.repository.db.OrderRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the same page of a buyer's orders as entities mapped to summaries, the way the
+ * list used to, and as the constructor projection, and reports bytes allocated and
+ * latency per page. The entity path pays for the managed instances and their
+ * dirty-checking snapshots; the projection allocates only the response records.
+ * H2 in memory, so the latency is indicative; the allocation gap carries over.
+ */
+@Slf4j
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.datasource.url=jdbc:h2:mem:projectionbenchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderSummaryProjectionBenchmarkTest {
+
+    private static final long BUYER_USER_ID = 42L;
+    private static final int ORDERS = 500;
+    private static final int PAGE_SIZE = 100;
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void projectionSkipsEntitiesAndAllocatesLess() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < ORDERS; i++) {
+                Order order = new Order();
+                order.setBuyerUserId(BUYER_USER_ID);
+                order.setStatus("PENDING");
+                order.setTotalAmount(1000L + i);
+                entityManager.persist(order);
+            }
+        });
+        transactionTemplate.setReadOnly(true);
+
+        Supplier<List<OrderSummaryResponse>> entityPage = () -> entityManager
+                .createQuery("SELECT o FROM Order o WHERE o.buyerUserId = :buyerUserId"
+                        + " ORDER BY o.createdAt DESC, o.id DESC", Order.class)
+                .setParameter("buyerUserId", BUYER_USER_ID)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList()
+                .stream()
+                .map(OrderSummaryResponse::new)
+                .toList();
+        Supplier<List<OrderSummaryResponse>> projectionPage = () -> orderRepository
+                .findFirstSummaryPageByBuyerUserId(BUYER_USER_ID, PageRequest.ofSize(PAGE_SIZE));
+
+        // warm up both paths so class loading and query plan caching stay out of the measurement
+        measure("entity (warm-up)", transactionTemplate, entityPage);
+        measure("projection (warm-up)", transactionTemplate, projectionPage);
+
+        Measurement entity = measure("entity", transactionTemplate, entityPage);
+        Measurement projection = measure("projection", transactionTemplate, projectionPage);
+
+        assertThat(entity.entitiesLoaded()).isEqualTo((long) PAGE_SIZE * ITERATIONS);
+        assertThat(projection.entitiesLoaded()).isZero();
+        assertThat(projection.bytesPerPage()).isLessThan(entity.bytesPerPage());
+    }
+
+    private Measurement measure(String path, TransactionTemplate transactionTemplate,
+            Supplier<List<OrderSummaryResponse>> page) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        statistics.clear();
+
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            // a transaction per page, like a request, so the persistence context starts empty
+            List<OrderSummaryResponse> summaries = transactionTemplate.execute(status -> page.get());
+            assertThat(summaries).hasSize(PAGE_SIZE);
+        }
+        long nanosPerPage = (System.nanoTime() - started) / ITERATIONS;
+        long bytesPerPage = (threads.getThreadAllocatedBytes(threadId) - allocatedBefore) / ITERATIONS;
+
+        log.info("{}: {} rows per page, {} KB allocated and {} us per page, {} entities loaded", path, PAGE_SIZE,
+                bytesPerPage / 1024, nanosPerPage / 1000, statistics.getEntityLoadCount());
+        return new Measurement(bytesPerPage, statistics.getEntityLoadCount());
+    }
+
+    private record Measurement(long bytesPerPage, long entitiesLoaded) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.order.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Counts the JDBC statements Hibernate prepares for a code path, using
+ * hibernate.generate_statistics. A batched statement counts once.
+ */
+class SqlStatementCounter {
+
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    SqlStatementCounter(EntityManager entityManager) {
+        this.entityManager = entityManager;
+        this.statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    /**
+     * Runs the action against an empty persistence context (as a fresh request would)
+     * and fails if it, including the flush of its pending writes, prepares more than
+     * maxStatements statements.
+     */
+    void assertAtMost(int maxStatements, Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        action.run();
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount())
+                .as("SQL statements prepared")
+                .isLessThanOrEqualTo(maxStatements);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ecommerce.order.service.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.repository.db.InboxEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InboxDeduplicatorTest {
+
+    private final InboxEventRepository repository = mock(InboxEventRepository.class);
+    private final InboxDeduplicator deduplicator =
+            new InboxDeduplicator(repository, new SimpleMeterRegistry(), 1000, Duration.ofDays(14), 2);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void duplicateSeenInARolledBackTransactionIsNotCached() {
+        // the transaction's own insert makes INSERT IGNORE report 0 for the second copy
+        when(repository.insertIgnore(anyString(), anyString())).thenReturn(1, 0, 1);
+        OutboxEvent event = paymentEvent("evt-1");
+
+        assertThat(deduplicator.markReceived(event)).isTrue();
+        assertThat(deduplicator.markReceived(event)).isFalse();
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // the retry after the rollback must reach the database again instead of the cache
+        assertThat(deduplicator.markReceived(event)).isTrue();
+        verify(repository, times(3)).insertIgnore("evt-1", "PAYMENT_SUCCEEDED");
+    }
+
+    @Test
+    void committedEventIsRejectedFromTheCache() {
+        when(repository.insertIgnore(anyString(), anyString())).thenReturn(1);
+        OutboxEvent event = paymentEvent("evt-2");
+
+        assertThat(deduplicator.markReceived(event)).isTrue();
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(deduplicator.markReceived(event)).isFalse();
+        verify(repository, times(1)).insertIgnore("evt-2", "PAYMENT_SUCCEEDED");
+    }
+
+    @Test
+    void purgeDeletesInChunksUntilAShortOne() {
+        when(repository.deleteReceivedBefore(any(Instant.class), eq(2))).thenReturn(2, 2, 1);
+
+        deduplicator.purgeExpired();
+
+        verify(repository, times(3)).deleteReceivedBefore(any(Instant.class), eq(2));
+    }
+
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    private static OutboxEvent paymentEvent(String eventId) {
+        return OutboxEvent.builder()
+                .eventId(eventId)
+                .eventType("PAYMENT_SUCCEEDED")
+                .build();
+    }
+}
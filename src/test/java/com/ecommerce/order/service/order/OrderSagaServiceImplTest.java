@@ -0,0 +1,64 @@
+package com.ecommerce.order.service.order;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ecommerce.order.exception.OrderNotFoundException;
+import com.ecommerce.order.kafka.dto.SagaEventPayload;
+import com.ecommerce.order.kafka.producer.OutboxRelaySignal;
+import com.ecommerce.order.model.db.entity.Order;
+import com.ecommerce.order.model.db.entity.OutboxEvent;
+import com.ecommerce.order.repository.db.OrderRepository;
+import com.ecommerce.order.repository.db.OutboxEventRepository;
+import com.ecommerce.order.service.orderbrowse.OrderReadCache;
+import com.ecommerce.order.service.sellerorder.SellerRevenueRollup;
+import com.ecommerce.order.util.JsonUtil;
+
+class OrderSagaServiceImplTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final InboxDeduplicator inboxDeduplicator = mock(InboxDeduplicator.class);
+    private final JsonUtil jsonUtil = new JsonUtil(Jackson2ObjectMapperBuilder.json().build());
+    private final OrderSagaServiceImpl orderSagaService = new OrderSagaServiceImpl(orderRepository,
+            outboxEventRepository, mock(OutboxRelaySignal.class), inboxDeduplicator, mock(OrderReadCache.class),
+            mock(SellerRevenueRollup.class), jsonUtil);
+
+    @Test
+    void batchWithAnUnknownOrderFailsLikeASingleEvent() {
+        Order known = new Order();
+        known.setId(1L);
+        known.setStatus("PENDING");
+        when(inboxDeduplicator.markReceived(any())).thenReturn(true);
+        when(orderRepository.findAllById(anyIterable())).thenReturn(List.of(known));
+
+        // the consumer falls back to one event per transaction and sends the unknown one to retry/DLT
+        assertThatThrownBy(() -> orderSagaService.processPaymentResults(
+                List.of(paymentSucceeded(1L), paymentSucceeded(2L))))
+                .isInstanceOf(OrderNotFoundException.class);
+        verify(outboxEventRepository, never()).saveAll(anyIterable());
+    }
+
+    private OutboxEvent paymentSucceeded(Long orderId) {
+        return OutboxEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .aggregateType("payments")
+                .aggregateId(orderId.toString())
+                .eventType("PAYMENT_SUCCEEDED")
+                .payload(jsonUtil.toJson(new SagaEventPayload(orderId, 1000L, List.of())))
+                .metadata("{\"traceId\":\"t\",\"userId\":\"1\",\"timestamp\":0}")
+                .status("PENDING")
+                .build();
+    }
+}
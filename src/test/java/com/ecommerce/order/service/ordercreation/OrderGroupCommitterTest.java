@@ -0,0 +1,206 @@
+package com.ecommerce.order.service.ordercreation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.api.AbstractThrowableAssert;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.order.exception.OrderCommitTimeoutException;
+import com.ecommerce.order.exception.OrderQueueFullException;
+import com.ecommerce.order.model.db.entity.Order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Every test holds the first commit until the orders it needs have queued behind it,
+ * so the groups the writer takes are the same on every run.
+ */
+class OrderGroupCommitterTest {
+
+    private final OrderCreationWriter writer = mock(OrderCreationWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(16);
+    private final List<Integer> groupSizes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstCommitStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstCommit = new CountDownLatch(1);
+    private OrderGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstCommit.countDown();
+        callers.shutdownNow();
+        if (committer != null) {
+            committer.stop();
+        }
+    }
+
+    @Test
+    void concurrentOrdersShareCommits() throws Exception {
+        holdFirstCommit();
+        committer = start(64, 5000, 5000);
+
+        List<CompletableFuture<Order>> results = submitBehindFirstCommit(16);
+        releaseFirstCommit.countDown();
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS).getBuyerUserId()).isEqualTo(i + 1L);
+        }
+        // the first order alone, then everything that queued behind it in one group
+        assertThat(groupSizes).containsExactly(1, 15);
+    }
+
+    @Test
+    void failedGroupIsRetriedOrderByOrder() throws Exception {
+        when(writer.persistAll(anyList())).thenAnswer(invocation -> {
+            List<PendingOrder> pendingOrders = invocation.getArgument(0);
+            groupSizes.add(pendingOrders.size());
+            if (pendingOrders.size() > 1) {
+                throw new IllegalStateException("duplicate key");
+            }
+            firstCommitStarted.countDown();
+            releaseFirstCommit.await(5, TimeUnit.SECONDS);
+            return pendingOrders.stream().map(this::toOrder).toList();
+        });
+        when(writer.persist(any())).thenAnswer(invocation -> toOrder(invocation.getArgument(0)));
+        committer = start(64, 5000, 5000);
+
+        List<CompletableFuture<Order>> results = submitBehindFirstCommit(3);
+        releaseFirstCommit.countDown();
+
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get(5, TimeUnit.SECONDS).getBuyerUserId()).isEqualTo(i + 1L);
+        }
+        assertThat(groupSizes).containsExactly(1, 2);
+        assertThat(meterRegistry.get("order.group-commit.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void waitTimesOut() throws Exception {
+        holdFirstCommit();
+        committer = start(64, 200, 5000);
+
+        List<CompletableFuture<Order>> results = submitBehindFirstCommit(2);
+
+        // the order being written may still commit; the queued one is withdrawn
+        assertThatCause(results.get(0)).isInstanceOf(OrderCommitTimeoutException.class);
+        assertThatCause(results.get(1)).isInstanceOf(OrderQueueFullException.class);
+
+        releaseFirstCommit.countDown();
+        committer.stop();
+        assertThat(groupSizes).containsExactly(1);
+    }
+
+    @Test
+    void stopFailsWhatIsStillQueued() throws Exception {
+        holdFirstCommit();
+        committer = start(64, 5000, 100);
+
+        List<CompletableFuture<Order>> results = submitBehindFirstCommit(2);
+        committer.stop();
+
+        assertThatCause(results.get(1)).isInstanceOf(OrderQueueFullException.class);
+
+        // the group already being written still completes
+        releaseFirstCommit.countDown();
+        assertThat(results.get(0).get(5, TimeUnit.SECONDS).getBuyerUserId()).isEqualTo(1L);
+        assertThat(groupSizes).containsExactly(1);
+    }
+
+    @Test
+    void writerSurvivesAnError() throws Exception {
+        when(writer.persistAll(anyList()))
+                .thenThrow(new StackOverflowError())
+                .thenAnswer(invocation -> {
+                    List<PendingOrder> pendingOrders = invocation.getArgument(0);
+                    return pendingOrders.stream().map(this::toOrder).toList();
+                });
+        committer = start(64, 5000, 5000);
+
+        assertThatThrownBy(() -> committer.submitAndWait(pendingOrder(1L))).isInstanceOf(StackOverflowError.class);
+        assertThat(committer.submitAndWait(pendingOrder(2L)).getBuyerUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    void fullQueueIsRejected() {
+        committer = new OrderGroupCommitter(writer, meterRegistry, 1, 10, 1, 1000, 1000);
+        // not started: nothing drains the queue
+
+        assertThatThrownBy(() -> committer.submitAndWait(pendingOrder(1L)))
+                .isInstanceOf(OrderQueueFullException.class);
+        assertThat(meterRegistry.get("order.group-commit.rejected").counter().count()).isEqualTo(1);
+    }
+
+    private void holdFirstCommit() throws Exception {
+        when(writer.persistAll(anyList())).thenAnswer(invocation -> {
+            List<PendingOrder> pendingOrders = invocation.getArgument(0);
+            groupSizes.add(pendingOrders.size());
+            if (groupSizes.size() == 1) {
+                firstCommitStarted.countDown();
+                releaseFirstCommit.await(5, TimeUnit.SECONDS);
+            }
+            return pendingOrders.stream().map(this::toOrder).toList();
+        });
+    }
+
+    /**
+     * Submits buyer 1, waits until the writer is committing it, then submits buyers
+     * 2..count and waits until they are all queued.
+     */
+    private List<CompletableFuture<Order>> submitBehindFirstCommit(int count) throws InterruptedException {
+        List<CompletableFuture<Order>> results = new ArrayList<>();
+        results.add(submit(1L));
+        assertThat(firstCommitStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long buyer = 2; buyer <= count; buyer++) {
+            results.add(submit(buyer));
+        }
+        while (meterRegistry.get("order.group-commit.queue.depth").gauge().value() < count - 1) {
+            Thread.sleep(1);
+        }
+        return results;
+    }
+
+    private CompletableFuture<Order> submit(Long buyerUserId) {
+        PendingOrder pendingOrder = pendingOrder(buyerUserId);
+        return CompletableFuture.supplyAsync(() -> committer.submitAndWait(pendingOrder), callers);
+    }
+
+    private OrderGroupCommitter start(int queueCapacity, long waitTimeoutMs, long shutdownTimeoutMs) {
+        OrderGroupCommitter started = new OrderGroupCommitter(writer, meterRegistry, queueCapacity, 200, 1,
+                waitTimeoutMs, shutdownTimeoutMs);
+        started.start();
+        return started;
+    }
+
+    private static AbstractThrowableAssert<?, ? extends Throwable> assertThatCause(
+            CompletableFuture<Order> result) {
+        return assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause();
+    }
+
+    private PendingOrder pendingOrder(Long buyerUserId) {
+        return new PendingOrder(buyerUserId, 1000L, List.of(), null, null, null);
+    }
+
+    private Order toOrder(PendingOrder pendingOrder) {
+        Order order = new Order();
+        order.setBuyerUserId(pendingOrder.buyerUserId());
+        return order;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.order.service.orderexport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.ecommerce.order.repository.db.OrderExportRow;
+
+class CsvOrderExportWriterTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+    @Test
+    void writesHeaderAndOneLinePerItem() throws IOException {
+        String csv = export(
+                new OrderExportRow(2L, "PAID", 1500L, CREATED_AT, 101L, 7L, 1, 500L),
+                new OrderExportRow(2L, "PAID", 1500L, CREATED_AT, 102L, 8L, 2, 500L));
+
+        assertThat(csv).isEqualTo("""
+                order_id,status,total_amount,created_at,product_id,seller_admin_id,quantity,unit_price
+                2,PAID,1500,2026-03-01T10:15:30Z,101,7,1,500
+                2,PAID,1500,2026-03-01T10:15:30Z,102,8,2,500
+                """);
+    }
+
+    @Test
+    void quotesValuesWithSeparatorsQuotesOrLineBreaks() throws IOException {
+        String csv = export(
+                new OrderExportRow(1L, "ON HOLD, \"REVIEW\"", 500L, CREATED_AT, 101L, 7L, 1, 500L),
+                new OrderExportRow(2L, "LINE\nBREAK", 500L, CREATED_AT, 101L, 7L, 1, 500L));
+
+        assertThat(csv).contains("\n1,\"ON HOLD, \"\"REVIEW\"\"\",500,2026-03-01T10:15:30Z,101,7,1,500\n");
+        assertThat(csv).endsWith("2,\"LINE\nBREAK\",500,2026-03-01T10:15:30Z,101,7,1,500\n");
+    }
+
+    @Test
+    void emptyExportIsJustTheHeader() throws IOException {
+        assertThat(export()).isEqualTo(
+                "order_id,status,total_amount,created_at,product_id,seller_admin_id,quantity,unit_price\n");
+    }
+
+    private static String export(OrderExportRow... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OrderExportWriter writer = new CsvOrderExportWriter(out);
+        for (OrderExportRow row : rows) {
+            writer.write(row);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
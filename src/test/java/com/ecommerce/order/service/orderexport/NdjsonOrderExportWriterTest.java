@@ -0,0 +1,64 @@
+package com.ecommerce.order.service.orderexport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.ecommerce.order.repository.db.OrderExportRow;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class NdjsonOrderExportWriterTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-03-01T10:15:30Z");
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    void groupsAdjacentRowsIntoOneLinePerOrder() throws IOException {
+        List<String> lines = export(
+                new OrderExportRow(2L, "PAID", 1500L, CREATED_AT, 101L, 7L, 1, 500L),
+                new OrderExportRow(2L, "PAID", 1500L, CREATED_AT, 102L, 8L, 2, 500L),
+                new OrderExportRow(1L, "PENDING", 300L, CREATED_AT, 103L, 7L, 1, 300L));
+
+        assertThat(lines).containsExactly(
+                "{\"orderId\":2,\"status\":\"PAID\",\"totalAmount\":1500,\"createdAt\":\"2026-03-01T10:15:30Z\",\"items\":["
+                        + "{\"productId\":101,\"sellerAdminId\":7,\"quantity\":1,\"unitPrice\":500},"
+                        + "{\"productId\":102,\"sellerAdminId\":8,\"quantity\":2,\"unitPrice\":500}]}",
+                "{\"orderId\":1,\"status\":\"PENDING\",\"totalAmount\":300,\"createdAt\":\"2026-03-01T10:15:30Z\",\"items\":["
+                        + "{\"productId\":103,\"sellerAdminId\":7,\"quantity\":1,\"unitPrice\":300}]}");
+    }
+
+    @Test
+    void escapesStringsSoEveryOrderStaysOnOneLine() throws IOException {
+        String status = "LINE\nBREAK \"QUOTED\" \\";
+
+        List<String> lines = export(new OrderExportRow(1L, status, 300L, CREATED_AT, 103L, 7L, 1, 300L));
+
+        assertThat(lines).hasSize(1);
+        JsonNode order = objectMapper.readTree(lines.get(0));
+        assertThat(order.get("status").asText()).isEqualTo(status);
+    }
+
+    @Test
+    void emptyExportWritesNothing() throws IOException {
+        assertThat(export()).isEmpty();
+    }
+
+    private List<String> export(OrderExportRow... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OrderExportWriter writer = new NdjsonOrderExportWriter(objectMapper, out);
+        for (OrderExportRow row : rows) {
+            writer.write(row);
+        }
+        writer.finish();
+        return out.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+}